@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.builder.BuildContext;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.IncrementalApiBuilder;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.junit.Test;
+
+/**
+ * Tests the API signature hashes kept in the {@link BuildState}
+ */
+public class BuildStateTests {
+
+	/**
+	 * Creates a type structure the way the type structure builder does for a
+	 * class with a public constructor, field and method
+	 */
+	private static ApiType createType(int methodModifiers) {
+		ApiType type = new ApiType(null, "p.Test", "Lp/Test;", null, Flags.AccPublic, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.setSuperclassName("java.lang.Object"); //$NON-NLS-1$
+		type.addMethod("<init>", "()V", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addField("value", "I", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addMethod("run", "(Ljava/lang/String;)V", null, methodModifiers, new String[] { "java.io.IOException" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return type;
+	}
+
+	/**
+	 * Tests that private and synthetic members do not contribute to the hash
+	 */
+	@Test
+	public void testHashIgnoresPrivateMembers() {
+		ApiType type = createType(Flags.AccPublic);
+		long hash = BuildState.computeApiHash(type);
+		assertEquals(hash, BuildState.computeApiHash(createType(Flags.AccPublic)));
+		type.addMethod("lambda$0", "()V", null, Flags.AccPrivate | Flags.AccStatic | Flags.AccSynthetic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addField("cache", "Ljava/lang/Object;", null, Flags.AccPrivate, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(hash, BuildState.computeApiHash(type));
+	}
+
+	/**
+	 * Tests that changes of the API signature change the hash
+	 */
+	@Test
+	public void testHashDetectsApiChanges() {
+		long hash = BuildState.computeApiHash(createType(Flags.AccPublic));
+		assertNotEquals(hash, BuildState.computeApiHash(createType(Flags.AccProtected)));
+		ApiType type = createType(Flags.AccPublic);
+		type.addMethod("stop", "()V", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotEquals(hash, BuildState.computeApiHash(type));
+		type = createType(Flags.AccPublic);
+		type.setSuperInterfaceNames(new String[] { "java.lang.Runnable" }); //$NON-NLS-1$
+		assertNotEquals(hash, BuildState.computeApiHash(type));
+	}
+
+	/**
+	 * Tests that the hashes are written and read back with the build state
+	 */
+	@Test
+	public void testWriteRead() throws IOException {
+		BuildState state = new BuildState();
+		long hash = BuildState.computeApiHash(createType(Flags.AccPublic));
+		state.setApiHash("p.Test", hash); //$NON-NLS-1$
+		state.setApiHash("p.Removed", 42L); //$NON-NLS-1$
+		state.removeApiHash("p.Removed"); //$NON-NLS-1$
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BuildState.write(state, out);
+		}
+		BuildState read;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = BuildState.read(in);
+		}
+		assertNotNull(read);
+		assertEquals(hash, read.getApiHash("p.Test")); //$NON-NLS-1$
+		assertEquals(-1L, read.getApiHash("p.Removed")); //$NON-NLS-1$
+		assertEquals(-1L, read.getApiHash("p.Unknown")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests the decision of the incremental builder to skip the compatibility
+	 * analysis of the types of a changed file
+	 */
+	@Test
+	public void testSkipCompatibilityAnalysis() {
+		BuildState state = new BuildState();
+		Long original = Long.valueOf(BuildState.computeApiHash(createType(Flags.AccPublic)));
+		Long changed = Long.valueOf(BuildState.computeApiHash(createType(Flags.AccProtected)));
+		Map<String, Long> originalApi = Collections.singletonMap("p.Test", original); //$NON-NLS-1$
+		Map<String, Long> changedApi = Collections.singletonMap("p.Test", changed); //$NON-NLS-1$
+
+		// the first change only records the hash
+		assertFalse(analyze(state, originalApi, true));
+		assertTrue(analyze(state, originalApi, true));
+		assertFalse(analyze(state, changedApi, true));
+		assertEquals(changed.longValue(), state.getApiHash("p.Test")); //$NON-NLS-1$
+		assertTrue(analyze(state, changedApi, true));
+	}
+
+	/**
+	 * Tests that a change that is not purely structural forgets the recorded
+	 * hash, so that changing the API back afterwards is not taken as unchanged
+	 */
+	@Test
+	public void testSkipCompatibilityAnalysisAfterDescriptionChange() {
+		BuildState state = new BuildState();
+		Long original = Long.valueOf(BuildState.computeApiHash(createType(Flags.AccPublic)));
+		Long changed = Long.valueOf(BuildState.computeApiHash(createType(Flags.AccProtected)));
+		Map<String, Long> originalApi = Collections.singletonMap("p.Test", original); //$NON-NLS-1$
+
+		analyze(state, originalApi, true);
+		assertTrue(analyze(state, originalApi, true));
+		// structural and description change to another API
+		assertFalse(analyze(state, Collections.singletonMap("p.Test", changed), false)); //$NON-NLS-1$
+		assertEquals(-1L, state.getApiHash("p.Test")); //$NON-NLS-1$
+		// back to the original API
+		assertFalse(analyze(state, originalApi, true));
+
+		// class file change, e.g. of the build path
+		assertTrue(analyze(state, originalApi, true));
+		assertFalse(analyze(state, Collections.singletonMap("p.Test", null), false)); //$NON-NLS-1$
+		assertFalse(analyze(state, originalApi, true));
+
+		// a type whose structure is not available
+		assertFalse(analyze(state, Collections.singletonMap("p.Test", null), true)); //$NON-NLS-1$
+		assertEquals(-1L, state.getApiHash("p.Test")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the hash of a type is only stored once its compatibility has
+	 * been analyzed, so that an analysis that did not run is not skipped later
+	 */
+	@Test
+	public void testSkipCompatibilityAnalysisOnlyAfterAnalysis() {
+		BuildState state = new BuildState();
+		Long original = Long.valueOf(BuildState.computeApiHash(createType(Flags.AccPublic)));
+		Map<String, Long> originalApi = Collections.singletonMap("p.Test", original); //$NON-NLS-1$
+
+		// the analysis of the first change ends early
+		BuildContext context = new BuildContext();
+		assertFalse(IncrementalApiBuilder.isApiUnchanged(state, context, originalApi, true));
+		assertEquals(-1L, state.getApiHash("p.Test")); //$NON-NLS-1$
+		assertFalse(IncrementalApiBuilder.isApiUnchanged(state, new BuildContext(), originalApi, true));
+
+		context.commitApiHash("p.Test", state); //$NON-NLS-1$
+		assertEquals(original.longValue(), state.getApiHash("p.Test")); //$NON-NLS-1$
+		assertTrue(IncrementalApiBuilder.isApiUnchanged(state, new BuildContext(), originalApi, true));
+	}
+
+	/**
+	 * Decides whether the analysis of the given types can be skipped and, if
+	 * not, stores their hashes as if the analysis had completed
+	 */
+	private static boolean analyze(BuildState state, Map<String, Long> hashes, boolean structural) {
+		BuildContext context = new BuildContext();
+		boolean unchanged = IncrementalApiBuilder.isApiUnchanged(state, context, hashes, structural);
+		if (!unchanged) {
+			for (String typename : hashes.keySet()) {
+				context.commitApiHash(typename, state);
+			}
+		}
+		return unchanged;
+	}
+}
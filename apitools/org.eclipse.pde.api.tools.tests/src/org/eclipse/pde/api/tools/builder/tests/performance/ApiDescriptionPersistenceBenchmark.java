@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.model.tests.ApiDescriptionPersistenceTests;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Compares time and heap high-water mark of restoring and saving a large
+ * synthetic project API description through a DOM document with the streaming
+ * code path of the {@link ApiDescriptionManager}. The results are written to
+ * the console.
+ */
+public class ApiDescriptionPersistenceBenchmark {
+
+	private static final int PACKAGES = 400;
+	private static final int TYPES = 50;
+	private static final int MEMBERS = 20;
+	private static final int WARMUP = 2;
+	private static final int RUNS = 5;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * A unit of work to measure
+	 */
+	private interface Scenario {
+		void run(boolean streaming) throws Exception;
+	}
+
+	@Test
+	public void testRestore() throws Exception {
+		Path file = createDescription();
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		compare("Restore API description", streaming -> { //$NON-NLS-1$
+			ProjectApiDescription description = new ProjectApiDescription(ApiDescriptionPersistenceTests.getSyntheticProject());
+			assertTrue(manager.restoreDescription(ApiDescriptionPersistenceTests.getSyntheticProject(), description, file, streaming));
+		});
+	}
+
+	@Test
+	public void testSave() throws Exception {
+		Path file = createDescription();
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		ProjectApiDescription description = new ProjectApiDescription(ApiDescriptionPersistenceTests.getSyntheticProject());
+		assertTrue(manager.restoreDescription(ApiDescriptionPersistenceTests.getSyntheticProject(), description, file, true));
+		Path target = folder.getRoot().toPath().resolve("saved").resolve("api_description"); //$NON-NLS-1$ //$NON-NLS-2$
+		compare("Save API description", streaming -> manager.saveDescription(description, target, streaming)); //$NON-NLS-1$
+	}
+
+	private Path createDescription() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("api_description"); //$NON-NLS-1$
+		ApiDescriptionPersistenceTests.writeSyntheticDescription(file, PACKAGES, TYPES, MEMBERS);
+		System.out.println("Synthetic API description: " + PACKAGES * TYPES + " types, " + PACKAGES * TYPES * MEMBERS //$NON-NLS-1$ //$NON-NLS-2$
+				+ " members, " + Files.size(file) / 1024 + " KB"); //$NON-NLS-1$ //$NON-NLS-2$
+		return file;
+	}
+
+	private static void compare(String name, Scenario scenario) throws Exception {
+		for (boolean streaming : new boolean[] { false, true }) {
+			for (int i = 0; i < WARMUP; i++) {
+				scenario.run(streaming);
+			}
+			long time = Long.MAX_VALUE;
+			long peak = Long.MAX_VALUE;
+			for (int i = 0; i < RUNS; i++) {
+				long before = prepareHeap();
+				long start = System.nanoTime();
+				scenario.run(streaming);
+				time = Math.min(time, System.nanoTime() - start);
+				peak = Math.min(peak, getPeakHeap() - before);
+			}
+			System.out.println(name + (streaming ? " [streaming]" : " [DOM]") + ": " + time / 1_000_000 + " ms, heap high-water mark " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+					+ Math.max(0, peak) / (1024 * 1024) + " MB"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Collects garbage and resets the peak usage of all heap pools
+	 *
+	 * @return the heap used before the measurement starts
+	 */
+	private static long prepareHeap() {
+		System.gc();
+		long used = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+				used += pool.getUsage().getUsed();
+			}
+		}
+		return used;
+	}
+
+	/**
+	 * @return the sum of the peak usages of all heap pools since the last
+	 *         reset
+	 */
+	private static long getPeakHeap() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.DeltaProcessor;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Benchmarks the hot paths of API tools (reference extraction, class file
+ * comparison, component resolution, model cache lookups and build state
+ * persistence) against a synthetic corpus of bundles. The size of the corpus
+ * and the number of iterations can be set with system properties, and the
+ * results are written in the JSON format of the Java Microbenchmark Harness to
+ * the file named by the {@value #RESULT_PROPERTY} property.
+ */
+public class ApiToolsBenchmarks {
+
+	private static final String PREFIX = "org.eclipse.pde.api.tools.benchmark."; //$NON-NLS-1$
+	public static final String BUNDLES_PROPERTY = PREFIX + "bundles"; //$NON-NLS-1$
+	public static final String PACKAGES_PROPERTY = PREFIX + "packages"; //$NON-NLS-1$
+	public static final String TYPES_PROPERTY = PREFIX + "types"; //$NON-NLS-1$
+	public static final String WARMUP_PROPERTY = PREFIX + "warmup"; //$NON-NLS-1$
+	public static final String ITERATIONS_PROPERTY = PREFIX + "iterations"; //$NON-NLS-1$
+	public static final String TIME_PROPERTY = PREFIX + "time"; //$NON-NLS-1$
+	public static final String RESULT_PROPERTY = PREFIX + "result"; //$NON-NLS-1$
+
+	private static final String BASELINE = "benchmark.baseline"; //$NON-NLS-1$
+	private static final String REFERENCE_BASELINE = "benchmark.reference.baseline"; //$NON-NLS-1$
+
+	private static int bundles;
+	private static int packages;
+	private static int types;
+	private static Path directory;
+	private static IApiBaseline baseline;
+	private static IApiBaseline referenceBaseline;
+	private static List<IApiTypeRoot> roots;
+	private static List<IDelta> deltas;
+	private static BenchmarkRunner runner;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		bundles = Integer.getInteger(BUNDLES_PROPERTY, 4).intValue();
+		packages = Integer.getInteger(PACKAGES_PROPERTY, 5).intValue();
+		types = Integer.getInteger(TYPES_PROPERTY, 20).intValue();
+		Map<String, String> params = new LinkedHashMap<>();
+		params.put("bundles", Integer.toString(bundles)); //$NON-NLS-1$
+		params.put("packages", Integer.toString(packages)); //$NON-NLS-1$
+		params.put("types", Integer.toString(types)); //$NON-NLS-1$
+		runner = new BenchmarkRunner(ApiToolsBenchmarks.class.getName(), params, Integer.getInteger(WARMUP_PROPERTY, 3).intValue(), Integer.getInteger(ITERATIONS_PROPERTY, 5).intValue(), Long.getLong(TIME_PROPERTY, 500).longValue());
+
+		SyntheticCorpus corpus = new SyntheticCorpus(bundles, packages, types);
+		directory = Files.createTempDirectory("api-tools-benchmarks"); //$NON-NLS-1$
+		Path original = directory.resolve("reference"); //$NON-NLS-1$
+		Path changed = directory.resolve("changed"); //$NON-NLS-1$
+		corpus.generate(original, false);
+		corpus.generate(changed, true);
+		referenceBaseline = TestSuiteHelper.createBaseline(REFERENCE_BASELINE, original.toFile());
+		baseline = TestSuiteHelper.createBaseline(BASELINE, changed.toFile());
+
+		roots = new ArrayList<>();
+		for (int b = 0; b < bundles; b++) {
+			IApiComponent component = baseline.getApiComponent(SyntheticCorpus.getBundleName(b));
+			assertNotNull("Missing benchmark bundle", component); //$NON-NLS-1$
+			component.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeroot) {
+					roots.add(typeroot);
+				}
+			});
+		}
+		assertEquals("Unexpected number of types", corpus.getTypeCount(), roots.size()); //$NON-NLS-1$
+		deltas = new ArrayList<>();
+		for (int b = 0; b < bundles; b++) {
+			String id = SyntheticCorpus.getBundleName(b);
+			IDelta delta = ApiComparator.compare(referenceBaseline.getApiComponent(id), baseline.getApiComponent(id), VisibilityModifiers.API, null);
+			deltas.addAll(Util.collectAllDeltas(delta));
+		}
+		assertFalse("The corpora should differ", deltas.isEmpty()); //$NON-NLS-1$
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		try {
+			runner.write(Paths.get(System.getProperty(RESULT_PROPERTY, "api-tools-benchmarks.json"))); //$NON-NLS-1$
+		} finally {
+			if (baseline != null) {
+				baseline.dispose();
+			}
+			if (referenceBaseline != null) {
+				referenceBaseline.dispose();
+			}
+			TestSuiteHelper.delete(directory.toFile());
+		}
+	}
+
+	/**
+	 * Extracts all references of every type of the corpus
+	 */
+	@Test
+	public void referenceExtraction() throws Exception {
+		runner.measure("referenceExtraction", () -> { //$NON-NLS-1$
+			int count = 0;
+			for (IApiTypeRoot root : roots) {
+				count += root.getStructure().extractReferences(IReference.MASK_REF_ALL, null).size();
+			}
+			return Integer.valueOf(count);
+		});
+	}
+
+	/**
+	 * Compares every bundle of the changed corpus with the original one
+	 */
+	@Test
+	public void classFileComparison() throws Exception {
+		runner.measure("classFileComparison", () -> { //$NON-NLS-1$
+			int count = 0;
+			for (int b = 0; b < bundles; b++) {
+				String id = SyntheticCorpus.getBundleName(b);
+				IDelta delta = ApiComparator.compare(referenceBaseline.getApiComponent(id), baseline.getApiComponent(id), VisibilityModifiers.API, null);
+				count += Util.collectAllDeltas(delta).size();
+			}
+			return Integer.valueOf(count);
+		});
+	}
+
+	/**
+	 * Resolves every package of the corpus from the bundle requiring it and
+	 * looks up every type in the providing component
+	 */
+	@Test
+	public void componentResolution() throws Exception {
+		runner.measure("componentResolution", () -> { //$NON-NLS-1$
+			int count = 0;
+			for (int b = 1; b < bundles; b++) {
+				IApiComponent component = baseline.getApiComponent(SyntheticCorpus.getBundleName(b));
+				for (int p = 0; p < packages; p++) {
+					String pkg = SyntheticCorpus.getPackageName(b - 1, p);
+					for (IApiComponent provider : baseline.resolvePackage(component, pkg)) {
+						for (int t = 0; t < types; t++) {
+							if (provider.findTypeRoot(pkg + ".Type" + t) != null) { //$NON-NLS-1$
+								count++;
+							}
+						}
+					}
+				}
+			}
+			return Integer.valueOf(count);
+		});
+	}
+
+	/**
+	 * Looks up the cached structure of every type of the corpus
+	 */
+	@Test
+	public void modelCacheLookups() throws Exception {
+		for (IApiTypeRoot root : roots) {
+			root.getStructure();
+		}
+		ApiModelCache cache = ApiModelCache.getCache();
+		runner.measure("modelCacheLookups", () -> { //$NON-NLS-1$
+			int count = 0;
+			for (IApiTypeRoot root : roots) {
+				IApiElement element = cache.getElementInfo(BASELINE, root.getApiComponent().getSymbolicName(), root.getTypeName(), IApiElement.TYPE);
+				if (element instanceof IApiType) {
+					count++;
+				}
+			}
+			return Integer.valueOf(count);
+		});
+	}
+
+	/**
+	 * Writes and reads back a build state holding the deltas between the two
+	 * corpora and an API hash for every type
+	 */
+	@Test
+	public void buildStateReadWrite() throws Exception {
+		BuildState state = new BuildState();
+		for (IDelta delta : deltas) {
+			if (DeltaProcessor.isCompatible(delta)) {
+				state.addCompatibleChange(delta);
+			} else {
+				state.addBreakingChange(delta);
+			}
+		}
+		for (IApiTypeRoot root : roots) {
+			state.setApiHash(root.getTypeName(), BuildState.computeApiHash(root.getStructure()));
+		}
+		runner.measure("buildStateReadWrite", () -> { //$NON-NLS-1$
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				BuildState.write(state, out);
+			}
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				return BuildState.read(in);
+			}
+		});
+	}
+}
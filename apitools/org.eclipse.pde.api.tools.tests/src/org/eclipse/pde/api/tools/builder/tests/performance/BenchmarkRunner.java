@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Measures the average time of benchmark operations and writes the results in
+ * the JSON format of the Java Microbenchmark Harness, so that they can be
+ * compared across commits with the usual JMH tooling. Like the average time
+ * mode of JMH, each iteration repeats the operation for a fixed time and
+ * records the average time per operation. The score error is the half-width
+ * of the 99.9% confidence interval of the measurement iterations.
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * A benchmarked operation
+	 */
+	public interface Operation {
+		/**
+		 * Runs the operation once
+		 *
+		 * @return a result of the operation that is consumed so that the
+		 *         operation cannot be optimized away
+		 */
+		Object run() throws Exception;
+	}
+
+	/**
+	 * Student's t quantiles for a two-sided 99.9% confidence interval with 1
+	 * to 30 degrees of freedom
+	 */
+	private static final double[] T_999 = { 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+			4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850, 3.819, 3.792, 3.768, 3.745, 3.725,
+			3.707, 3.690, 3.674, 3.659, 3.646 };
+
+	private final String prefix;
+	private final Map<String, String> params;
+	private final int warmupIterations;
+	private final int measurementIterations;
+	private final long iterationNanos;
+	private final List<String> results = new ArrayList<>();
+
+	/**
+	 * Consumes operation results
+	 */
+	private volatile int sink;
+
+	/**
+	 * Constructor
+	 *
+	 * @param prefix the prefix of the benchmark names, usually the name of the
+	 *            benchmark class
+	 * @param params the parameters of the benchmarks, i.e. the corpus size
+	 * @param warmupIterations the number of warm up iterations
+	 * @param measurementIterations the number of measurement iterations
+	 * @param iterationMillis the minimum duration of an iteration in
+	 *            milliseconds
+	 */
+	public BenchmarkRunner(String prefix, Map<String, String> params, int warmupIterations, int measurementIterations, long iterationMillis) {
+		this.prefix = prefix;
+		this.params = new LinkedHashMap<>(params);
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		this.iterationNanos = iterationMillis * 1_000_000L;
+	}
+
+	/**
+	 * Measures the given operation and records the result.
+	 *
+	 * @param name the name of the benchmark
+	 * @param operation the operation to measure
+	 * @return the average time per operation in microseconds
+	 */
+	public double measure(String name, Operation operation) throws Exception {
+		for (int i = 0; i < warmupIterations; i++) {
+			iteration(operation);
+		}
+		double[] scores = new double[measurementIterations];
+		for (int i = 0; i < measurementIterations; i++) {
+			scores[i] = iteration(operation);
+		}
+		double mean = 0;
+		for (double score : scores) {
+			mean += score;
+		}
+		mean /= scores.length;
+		double error = Double.NaN;
+		if (scores.length > 1) {
+			double variance = 0;
+			for (double score : scores) {
+				variance += (score - mean) * (score - mean);
+			}
+			variance /= scores.length - 1;
+			int freedom = scores.length - 1;
+			double t = freedom <= T_999.length ? T_999[freedom - 1] : 3.291;
+			error = t * Math.sqrt(variance / scores.length);
+		}
+		results.add(toJson(name, mean, error, scores));
+		System.out.println(String.format("%s: %.3f +- %.3f us/op", name, Double.valueOf(mean), Double.valueOf(error))); //$NON-NLS-1$
+		return mean;
+	}
+
+	/**
+	 * Runs the operation repeatedly for at least the iteration time
+	 *
+	 * @return the average time per operation in microseconds
+	 */
+	private double iteration(Operation operation) throws Exception {
+		long operations = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			Object result = operation.run();
+			sink += result == null ? 0 : result.hashCode();
+			operations++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < iterationNanos);
+		return elapsed / 1_000.0 / operations;
+	}
+
+	private String toJson(String name, double score, double error, double[] scores) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("  {\n"); //$NON-NLS-1$
+		property(buffer, "benchmark", quote(prefix + '.' + name)); //$NON-NLS-1$
+		property(buffer, "mode", quote("avgt")); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "threads", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "forks", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "jdkVersion", quote(System.getProperty("java.version"))); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "vmName", quote(System.getProperty("java.vm.name"))); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "vmVersion", quote(System.getProperty("java.vm.version"))); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "warmupIterations", Integer.toString(warmupIterations)); //$NON-NLS-1$
+		property(buffer, "warmupTime", quote(iterationNanos / 1_000_000L + " ms")); //$NON-NLS-1$ //$NON-NLS-2$
+		property(buffer, "measurementIterations", Integer.toString(measurementIterations)); //$NON-NLS-1$
+		property(buffer, "measurementTime", quote(iterationNanos / 1_000_000L + " ms")); //$NON-NLS-1$ //$NON-NLS-2$
+		StringBuilder values = new StringBuilder("{ "); //$NON-NLS-1$
+		for (Entry<String, String> param : params.entrySet()) {
+			if (values.length() > 2) {
+				values.append(", "); //$NON-NLS-1$
+			}
+			values.append(quote(param.getKey())).append(": ").append(quote(param.getValue())); //$NON-NLS-1$
+		}
+		property(buffer, "params", values.append(" }").toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		StringBuilder raw = new StringBuilder("[ [ "); //$NON-NLS-1$
+		for (int i = 0; i < scores.length; i++) {
+			if (i > 0) {
+				raw.append(", "); //$NON-NLS-1$
+			}
+			raw.append(number(scores[i]));
+		}
+		raw.append(" ] ]"); //$NON-NLS-1$
+		buffer.append("    \"primaryMetric\": {\n"); //$NON-NLS-1$
+		buffer.append("      \"score\": ").append(number(score)).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("      \"scoreError\": ").append(number(error)).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("      \"scoreConfidence\": [ ").append(number(score - error)).append(", ").append(number(score + error)).append(" ],\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buffer.append("      \"scoreUnit\": \"us/op\",\n"); //$NON-NLS-1$
+		buffer.append("      \"rawData\": ").append(raw).append('\n'); //$NON-NLS-1$
+		buffer.append("    },\n"); //$NON-NLS-1$
+		buffer.append("    \"secondaryMetrics\": {}\n"); //$NON-NLS-1$
+		buffer.append("  }"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	private static void property(StringBuilder buffer, String name, String value) {
+		buffer.append("    ").append(quote(name)).append(": ").append(value).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private static String number(double value) {
+		return Double.isNaN(value) ? "\"NaN\"" : Double.toString(value); //$NON-NLS-1$
+	}
+
+	private static String quote(String value) {
+		return '"' + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + '"'; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Writes the results of all measured benchmarks as a JSON array
+	 *
+	 * @param file the file to write to
+	 */
+	public void write(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Files.writeString(file, "[\n" + String.join(",\n", results) + "\n]\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		System.out.println("Benchmark results written to " + file.toAbsolutePath()); //$NON-NLS-1$
+	}
+}
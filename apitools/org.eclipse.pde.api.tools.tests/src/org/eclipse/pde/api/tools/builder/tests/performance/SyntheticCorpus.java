@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+
+/**
+ * Generates a corpus of synthetic bundle jars to benchmark API tools with. Each
+ * bundle exports a number of packages with a number of types each. The types
+ * extend each other in short chains, use generics, collections and constants,
+ * and reference the same type in the previous bundle, which the bundle
+ * requires. The changed variant of a corpus adds methods to some types and
+ * changes the signature of a method of others, so that comparing it with the
+ * original corpus produces compatible as well as breaking deltas.
+ */
+public class SyntheticCorpus {
+
+	private final int bundles;
+	private final int packages;
+	private final int types;
+
+	/**
+	 * Constructor
+	 *
+	 * @param bundles the number of bundles to generate
+	 * @param packages the number of packages per bundle
+	 * @param types the number of types per package
+	 */
+	public SyntheticCorpus(int bundles, int packages, int types) {
+		this.bundles = bundles;
+		this.packages = packages;
+		this.types = types;
+	}
+
+	/**
+	 * @return the symbolic name of the given bundle
+	 */
+	public static String getBundleName(int bundle) {
+		return "benchmark.bundle" + bundle; //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the name of the given package of the given bundle
+	 */
+	public static String getPackageName(int bundle, int pkg) {
+		return "benchmark.b" + bundle + ".p" + pkg; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the total number of types in the corpus
+	 */
+	public int getTypeCount() {
+		return bundles * packages * types;
+	}
+
+	/**
+	 * Generates, compiles and packages the corpus.
+	 *
+	 * @param directory the directory to write the bundle jars to
+	 * @param changed whether to generate the changed variant of the corpus
+	 * @throws IOException if the corpus cannot be written or compiled
+	 */
+	public void generate(Path directory, boolean changed) throws IOException {
+		Path work = Files.createTempDirectory("synthetic-corpus"); //$NON-NLS-1$
+		try {
+			Path sources = work.resolve("src"); //$NON-NLS-1$
+			Path classes = work.resolve("bin"); //$NON-NLS-1$
+			List<String> files = new ArrayList<>();
+			for (int b = 0; b < bundles; b++) {
+				for (int p = 0; p < packages; p++) {
+					Path folder = sources.resolve(getPackageName(b, p).replace('.', '/'));
+					Files.createDirectories(folder);
+					for (int t = 0; t < types; t++) {
+						Path file = folder.resolve("Type" + t + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+						Files.writeString(file, getSource(b, p, t, changed));
+						files.add(file.toString());
+					}
+				}
+			}
+			if (!TestSuiteHelper.compile(files.toArray(new String[files.size()]), classes.toString(), TestSuiteHelper.getCompilerOptions())) {
+				throw new IOException("The synthetic corpus failed to compile"); //$NON-NLS-1$
+			}
+			Files.createDirectories(directory);
+			for (int b = 0; b < bundles; b++) {
+				writeBundle(directory, classes, b, changed);
+			}
+		} finally {
+			TestSuiteHelper.delete(work.toFile());
+		}
+	}
+
+	private String getSource(int bundle, int pkg, int type, boolean changed) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("package ").append(getPackageName(bundle, pkg)).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("import java.util.*;\n\n"); //$NON-NLS-1$
+		buffer.append("/**\n * @since 1.0\n */\n"); //$NON-NLS-1$
+		buffer.append("public class Type").append(type); //$NON-NLS-1$
+		if (type % 5 != 0) {
+			buffer.append(" extends Type").append(type - 1); //$NON-NLS-1$
+		}
+		buffer.append(" implements Runnable"); //$NON-NLS-1$
+		if (type % 5 == 0) {
+			buffer.append(", Comparable<Type").append(type).append('>'); //$NON-NLS-1$
+		}
+		buffer.append(" {\n"); //$NON-NLS-1$
+		buffer.append("\tpublic static final int CONSTANT").append(type).append(" = ").append(type).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buffer.append("\tprotected List<String> names").append(type).append(" = new ArrayList<>();\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\tprivate final Map<String, Integer> counts = new HashMap<>();\n"); //$NON-NLS-1$
+		buffer.append("\tpublic Type").append(type).append("() {\n\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		String parameter = changed && type % 7 == 0 ? "long" : "int"; //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\tpublic String name").append(type).append('(').append(parameter).append(" index) {\n"); //$NON-NLS-1$
+		buffer.append("\t\treturn names").append(type).append(".get((int) index) + CONSTANT").append(type).append(";\n\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buffer.append("\t@Override\n\tpublic void run() {\n"); //$NON-NLS-1$
+		buffer.append("\t\tfor (String name : names").append(type).append(") {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\t\t\tcounts.merge(name, Integer.valueOf(name.length()), Integer::sum);\n\t\t}\n"); //$NON-NLS-1$
+		buffer.append("\t\tnames").append(type).append(".forEach(n -> System.out.println(n.trim()));\n\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (type % 5 == 0) {
+			buffer.append("\t@Override\n\tpublic int compareTo(Type").append(type).append(" other) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append("\t\treturn Integer.compare(counts.size(), other.counts.size());\n\t}\n"); //$NON-NLS-1$
+		}
+		buffer.append("\tpublic <T extends Comparable<T>> T max").append(type).append("(Collection<T> values) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\t\treturn Collections.max(values);\n\t}\n"); //$NON-NLS-1$
+		if (bundle > 0) {
+			String previous = getPackageName(bundle - 1, pkg) + ".Type" + type; //$NON-NLS-1$
+			buffer.append("\tpublic ").append(previous).append(" previous() {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append("\t\t").append(previous).append(" result = new ").append(previous).append("();\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			buffer.append("\t\tresult.run();\n\t\treturn result;\n\t}\n"); //$NON-NLS-1$
+		}
+		if (changed && type % 3 == 0) {
+			buffer.append("\tpublic void added").append(type).append("() {\n\t\trun();\n\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		buffer.append("}\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	private void writeBundle(Path directory, Path classes, int bundle, boolean changed) throws IOException {
+		String name = getBundleName(bundle);
+		String version = changed ? "1.1.0" : "1.0.0"; //$NON-NLS-1$ //$NON-NLS-2$
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		attributes.putValue("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		attributes.putValue("Bundle-SymbolicName", name); //$NON-NLS-1$
+		attributes.putValue("Bundle-Version", version); //$NON-NLS-1$
+		attributes.putValue("Bundle-RequiredExecutionEnvironment", "JavaSE-17"); //$NON-NLS-1$ //$NON-NLS-2$
+		StringBuilder exports = new StringBuilder();
+		for (int p = 0; p < packages; p++) {
+			if (p > 0) {
+				exports.append(',');
+			}
+			exports.append(getPackageName(bundle, p));
+		}
+		attributes.putValue("Export-Package", exports.toString()); //$NON-NLS-1$
+		if (bundle > 0) {
+			attributes.putValue("Require-Bundle", getBundleName(bundle - 1)); //$NON-NLS-1$
+		}
+		Path root = classes.resolve("benchmark").resolve("b" + bundle); //$NON-NLS-1$ //$NON-NLS-2$
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(root)) {
+			files = walk.filter(Files::isRegularFile).sorted().toList();
+		}
+		try (OutputStream out = Files.newOutputStream(directory.resolve(name + '_' + version + ".jar")); //$NON-NLS-1$
+				JarOutputStream jar = new JarOutputStream(out, manifest)) {
+			for (Path file : files) {
+				jar.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+				jar.write(Files.readAllBytes(file));
+				jar.closeEntry();
+			}
+		}
+	}
+}
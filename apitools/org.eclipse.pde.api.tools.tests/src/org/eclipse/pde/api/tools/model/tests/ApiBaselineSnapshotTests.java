@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ApiBaselineSnapshot;
+import org.eclipse.pde.api.tools.internal.ApiBaselineSnapshot.ComponentEntry;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.junit.Rule;
+import org.osgi.framework.Constants;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the binary {@link ApiBaselineSnapshot} used to persist API baselines
+ */
+public class ApiBaselineSnapshotTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static List<String> getIds(IApiComponent[] components) {
+		return Arrays.stream(components).filter(c -> !c.isSystemComponent()).map(IApiComponent::getSymbolicName)
+				.sorted().toList();
+	}
+
+	/**
+	 * Tests that a snapshot can be written and read back
+	 */
+	@Test
+	public void testWriteRead() throws CoreException, IOException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		assertNotNull(baseline);
+		try {
+			ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.create(baseline, null);
+			Path file = folder.getRoot().toPath().resolve("test" + ApiBaselineSnapshot.FILE_EXTENSION); //$NON-NLS-1$
+			ApiBaselineSnapshot.write(snapshot, file);
+			ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+			assertNotNull(read);
+			assertEquals(snapshot.getName(), read.getName());
+			assertEquals(snapshot.getLocation(), read.getLocation());
+			List<ComponentEntry> expected = snapshot.getComponents();
+			List<ComponentEntry> actual = read.getComponents();
+			assertEquals(expected.size(), actual.size());
+			assertFalse("the snapshot should not be empty", actual.isEmpty()); //$NON-NLS-1$
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i), actual.get(i));
+				assertNotNull("the manifest should have been recorded", actual.get(i).manifest()); //$NON-NLS-1$
+			}
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	/**
+	 * Tests that a baseline restored from a snapshot has the same components
+	 * as the baseline the snapshot was taken from
+	 */
+	@Test
+	public void testRestore() throws CoreException, IOException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		assertNotNull(baseline);
+		ApiBaseline restored = null;
+		try {
+			Path file = folder.getRoot().toPath().resolve("test" + ApiBaselineSnapshot.FILE_EXTENSION); //$NON-NLS-1$
+			ApiBaselineSnapshot.write(ApiBaselineSnapshot.create(baseline, null), file);
+			restored = (ApiBaseline) ApiModelFactory.newApiBaseline("restored", TestSuiteHelper.getEEDescription(), null); //$NON-NLS-1$
+			restored.restoreFrom(ApiBaselineSnapshot.read(file));
+			assertEquals(getIds(baseline.getApiComponents()), getIds(restored.getApiComponents()));
+			for (IApiComponent component : baseline.getApiComponents()) {
+				if (component.isSystemComponent()) {
+					continue;
+				}
+				IApiComponent other = restored.getApiComponent(component.getSymbolicName());
+				assertNotNull(component.getSymbolicName(), other);
+				assertEquals(component.getVersion(), other.getVersion());
+				assertEquals(component.getLocation(), other.getLocation());
+			}
+		} finally {
+			baseline.dispose();
+			if (restored != null) {
+				restored.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Tests that manifest headers written in a non-canonical case are still
+	 * found after a snapshot has been written, read and restored
+	 */
+	@Test
+	public void testManifestHeadersCaseInsensitive() throws CoreException, IOException {
+		File bundle = folder.newFolder("snapshot.lower"); //$NON-NLS-1$
+		Path manifestFile = bundle.toPath().resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		Files.createDirectories(manifestFile.getParent());
+		Files.writeString(manifestFile, """
+				manifest-version: 1.0
+				bundle-manifestversion: 2
+				bundle-symbolicname: snapshot.lower
+				bundle-version: 1.0.0
+				"""); //$NON-NLS-1$
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline("test", TestSuiteHelper.getEEDescription(), null); //$NON-NLS-1$
+		ApiBaseline restored = null;
+		try {
+			baseline.addApiComponents(new IApiComponent[] {
+					ApiModelFactory.newApiComponent(baseline, bundle.getAbsolutePath()) });
+			Path file = folder.getRoot().toPath().resolve("test" + ApiBaselineSnapshot.FILE_EXTENSION); //$NON-NLS-1$
+			ApiBaselineSnapshot.write(ApiBaselineSnapshot.create(baseline, null), file);
+			ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+			assertEquals(1, read.getComponents().size());
+			Map<String, String> manifest = read.getComponents().get(0).manifest();
+			assertNotNull("the manifest should have been recorded", manifest); //$NON-NLS-1$
+			assertEquals("snapshot.lower", manifest.get(Constants.BUNDLE_SYMBOLICNAME)); //$NON-NLS-1$
+			assertEquals("1.0.0", manifest.get(Constants.BUNDLE_VERSION)); //$NON-NLS-1$
+
+			restored = (ApiBaseline) ApiModelFactory.newApiBaseline("restored", TestSuiteHelper.getEEDescription(), null); //$NON-NLS-1$
+			restored.restoreFrom(read);
+			IApiComponent component = restored.getApiComponent("snapshot.lower"); //$NON-NLS-1$
+			assertNotNull(component);
+			assertEquals("1.0.0", component.getVersion()); //$NON-NLS-1$
+		} finally {
+			baseline.dispose();
+			if (restored != null) {
+				restored.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Tests that files of another format are rejected
+	 */
+	@Test
+	public void testWrongFormat() throws IOException {
+		Path file = folder.newFile("test" + ApiBaselineSnapshot.FILE_EXTENSION).toPath(); //$NON-NLS-1$
+		Files.writeString(file, "<apiprofile/>"); //$NON-NLS-1$
+		assertThrows(IOException.class, () -> ApiBaselineSnapshot.read(file));
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache.CachedDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache.CachedFilter;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link ApiDescriptionCache} of binary bundle API descriptions and
+ * filters
+ */
+public class ApiDescriptionCacheTests {
+
+	private static final String XML = "<component name=\"sample\" version=\"1.2\">" //$NON-NLS-1$
+			+ "<package name=\"a.b\">" //$NON-NLS-1$
+			+ "<type name=\"C\" restrictions=\"" + RestrictionModifiers.NO_EXTEND + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+			+ "<method name=\"m\" signature=\"(I)V\" restrictions=\"" + RestrictionModifiers.NO_OVERRIDE + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$
+			+ "<field name=\"f\" restrictions=\"" + RestrictionModifiers.NO_REFERENCE + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$
+			+ "</type>" //$NON-NLS-1$
+			+ "<type name=\"C$D\" visibility=\"" + VisibilityModifiers.PRIVATE + "\" restrictions=\"" + RestrictionModifiers.NO_INSTANTIATE + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			+ "</package></component>"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path copySampleJar() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Missing jar file", path.toFile().exists()); //$NON-NLS-1$
+		return Files.copy(path.toPath(), folder.getRoot().toPath().resolve("sample.jar")); //$NON-NLS-1$
+	}
+
+	private ApiDescriptionCache newCache() throws Exception {
+		return new ApiDescriptionCache(folder.newFolder("cache").toPath()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the key changes with the contents of the jar and that only
+	 * jars are cached
+	 */
+	@Test
+	public void testKey() throws Exception {
+		Path jar = copySampleJar();
+		ApiDescriptionCache cache = newCache();
+		String key = cache.getKey("sample", "1.0.0", jar); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull(key);
+		assertTrue(key, key.startsWith("sample_1.0.0_")); //$NON-NLS-1$
+		assertEquals(key, cache.getKey("sample", "1.0.0", jar)); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiDescriptionCache reopened = new ApiDescriptionCache(folder.getRoot().toPath().resolve("cache")); //$NON-NLS-1$
+		assertEquals("The digest should be read back from the cache", key, reopened.getKey("sample", "1.0.0", jar)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotEquals(key, cache.getKey("sample", "1.0.1", jar)); //$NON-NLS-1$ //$NON-NLS-2$
+
+		Files.write(jar, new byte[] { 0 }, StandardOpenOption.APPEND);
+		assertNotEquals("A changed jar should have another key", key, cache.getKey("sample", "1.0.0", jar)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNull("Folders are not cached", cache.getKey("sample", "1.0.0", folder.newFolder("sample_1.0.0").toPath())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Tests that a description restored from the cache resolves the same
+	 * annotations as one annotated from the <code>.api_description</code> file
+	 */
+	@Test
+	public void testDescription() throws Exception {
+		Path jar = copySampleJar();
+		ApiDescriptionCache cache = newCache();
+		String key = cache.getKey("sample", "1.0.0", jar); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(cache.readDescription(key));
+		cache.writeDescription(key, CachedDescription.create(Set.of("a.b", "x"), XML)); //$NON-NLS-1$ //$NON-NLS-2$
+		CachedDescription cached = cache.readDescription(key);
+		assertNotNull(cached);
+		assertEquals(Set.of("a.b", "x"), cached.getPackages()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(cached.hasApiDescription());
+
+		ApiDescription expected = new ApiDescription("sample"); //$NON-NLS-1$
+		expected.setVisibility(Factory.packageDescriptor("a.b"), VisibilityModifiers.API); //$NON-NLS-1$
+		ApiDescriptionProcessor.annotateApiSettings(null, expected, XML);
+		ApiDescription actual = new ApiDescription("sample"); //$NON-NLS-1$
+		actual.setVisibility(Factory.packageDescriptor("a.b"), VisibilityModifiers.API); //$NON-NLS-1$
+		cached.annotate(actual);
+
+		assertEquals(0, actual.compareEmbeddedVersionTo("1.2")); //$NON-NLS-1$
+		IReferenceTypeDescriptor type = Factory.typeDescriptor("a.b.C"); //$NON-NLS-1$
+		IElementDescriptor[] elements = { type, type.getMethod("m", "(I)V"), type.getField("f"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Factory.typeDescriptor("a.b.C$D") }; //$NON-NLS-1$
+		for (IElementDescriptor element : elements) {
+			IApiAnnotations annotations = expected.resolveAnnotations(element);
+			assertNotNull(element.toString(), annotations);
+			assertNotEquals(element.toString(), RestrictionModifiers.NO_RESTRICTIONS, annotations.getRestrictions());
+			assertEquals(element.toString(), annotations.getRestrictions(), actual.resolveAnnotations(element).getRestrictions());
+			assertEquals(element.toString(), annotations.getVisibility(), actual.resolveAnnotations(element).getVisibility());
+		}
+		assertEquals(VisibilityModifiers.PRIVATE, actual.resolveAnnotations(elements[3]).getVisibility());
+	}
+
+	/**
+	 * Tests the description of a bundle without an
+	 * <code>.api_description</code> file
+	 */
+	@Test
+	public void testNoApiDescription() throws Exception {
+		Path jar = copySampleJar();
+		ApiDescriptionCache cache = newCache();
+		String key = cache.getKey("sample", "1.0.0", jar); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.writeDescription(key, CachedDescription.create(Set.of("a.b"), null)); //$NON-NLS-1$
+		CachedDescription cached = cache.readDescription(key);
+		assertNotNull(cached);
+		assertFalse(cached.hasApiDescription());
+		assertEquals(Set.of("a.b"), cached.getPackages()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that filters are restored with the same problems and comments
+	 */
+	@Test
+	public void testFilters() throws Exception {
+		Path jar = copySampleJar();
+		ApiDescriptionCache cache = newCache();
+		String key = cache.getKey("sample", "1.0.0", jar); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(cache.readFilters(key));
+		List<CachedFilter> filters = Arrays.asList(new CachedFilter(1, "a/b/C.java", "a.b.C", new String[] { "m(int)", "C" }, "comment"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				new CachedFilter(2, null, null, null, null));
+		cache.writeFilters(key, filters);
+		List<CachedFilter> cached = cache.readFilters(key);
+		assertNotNull(cached);
+		assertEquals(filters.size(), cached.size());
+		for (int i = 0; i < filters.size(); i++) {
+			IApiProblem problem = filters.get(i).toProblem();
+			IApiProblem restored = cached.get(i).toProblem();
+			assertEquals(problem, restored);
+			assertEquals(problem.getResourcePath(), restored.getResourcePath());
+			assertEquals(problem.getTypeName(), restored.getTypeName());
+			assertArrayEquals(problem.getMessageArguments(), restored.getMessageArguments());
+			assertEquals(filters.get(i).comment(), cached.get(i).comment());
+		}
+
+		cache.writeFilters(key, List.of());
+		assertEquals("An empty list records a bundle without filters", List.of(), cache.readFilters(key)); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that saved project API descriptions are restored and saved the same
+ * way by the streaming and the DOM based code paths of the
+ * {@link ApiDescriptionManager}
+ */
+public class ApiDescriptionPersistenceTests {
+
+	private static final String PROJECT_NAME = "synthetic.api.description"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * @return a handle for a project that does not need to exist
+	 */
+	public static IJavaProject getSyntheticProject() {
+		return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME));
+	}
+
+	/**
+	 * Writes a saved API description of the synthetic project with the given
+	 * number of packages, types per package and members per type. Every type
+	 * and member carries a restriction so that all of them are saved again.
+	 *
+	 * @param file the file to write to
+	 */
+	public static void writeSyntheticDescription(Path file, int packages, int types, int members) throws IOException, XMLStreamException {
+		String root = '=' + PROJECT_NAME + "/src"; //$NON-NLS-1$
+		try (OutputStream out = Files.newOutputStream(file)) {
+			XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+			writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+			writer.writeStartElement(IApiXmlConstants.ELEMENT_COMPONENT);
+			writer.writeAttribute(IApiXmlConstants.ATTR_ID, PROJECT_NAME);
+			writer.writeAttribute(IApiXmlConstants.ATTR_MODIFICATION_STAMP, "42"); //$NON-NLS-1$
+			writer.writeAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			for (int p = 0; p < packages; p++) {
+				String pkg = "org.example.p" + p; //$NON-NLS-1$
+				writer.writeStartElement(IApiXmlConstants.ELEMENT_PACKAGE);
+				writer.writeAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(VisibilityModifiers.API));
+				writer.writeEmptyElement(IApiXmlConstants.ELEMENT_PACKAGE_FRAGMENT);
+				writer.writeAttribute(IApiXmlConstants.ATTR_HANDLE, root + '<' + pkg);
+				for (int t = 0; t < types; t++) {
+					String type = "Type" + t; //$NON-NLS-1$
+					writer.writeStartElement(IApiXmlConstants.ELEMENT_TYPE);
+					writer.writeAttribute(IApiXmlConstants.ATTR_HANDLE, root + '<' + pkg + '{' + type + ".java[" + type); //$NON-NLS-1$
+					writer.writeAttribute(IApiXmlConstants.ATTR_VISIBILITY, "0"); //$NON-NLS-1$
+					writer.writeAttribute(IApiXmlConstants.ATTR_RESTRICTIONS, Integer.toString(RestrictionModifiers.NO_EXTEND));
+					writer.writeAttribute(IApiXmlConstants.ATTR_MODIFICATION_STAMP, Integer.toString(t));
+					for (int m = 0; m < members; m++) {
+						if (m % 2 == 0) {
+							writer.writeEmptyElement(IApiXmlConstants.ELEMENT_METHOD);
+							writer.writeAttribute(IApiXmlConstants.ATTR_NAME, "method" + m); //$NON-NLS-1$
+							writer.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, "(Ljava/lang/String;I)V"); //$NON-NLS-1$
+						} else {
+							writer.writeEmptyElement(IApiXmlConstants.ELEMENT_FIELD);
+							writer.writeAttribute(IApiXmlConstants.ATTR_NAME, "field" + m); //$NON-NLS-1$
+						}
+						writer.writeAttribute(IApiXmlConstants.ATTR_VISIBILITY, "0"); //$NON-NLS-1$
+						writer.writeAttribute(IApiXmlConstants.ATTR_RESTRICTIONS, Integer.toString(RestrictionModifiers.NO_REFERENCE));
+					}
+					writer.writeEndElement();
+				}
+				writer.writeEndElement();
+			}
+			writer.writeEndElement();
+			writer.writeEndDocument();
+			writer.close();
+		}
+	}
+
+	private static String restoreAndWrite(Path file, boolean streaming) throws CoreException {
+		ProjectApiDescription description = new ProjectApiDescription(getSyntheticProject());
+		assertTrue(ApiDescriptionManager.getManager().restoreDescription(getSyntheticProject(), description, file, streaming));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		description.writeXML(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Tests that both restore paths build the same description
+	 */
+	@Test
+	public void testRestoreStreamingMatchesDom() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("api_description"); //$NON-NLS-1$
+		writeSyntheticDescription(file, 3, 4, 5);
+		String dom = restoreAndWrite(file, false);
+		String streaming = restoreAndWrite(file, true);
+		assertEquals(dom, streaming);
+		assertTrue(streaming.contains("method4")); //$NON-NLS-1$
+		assertTrue(streaming.contains("field3")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a description saved by the streaming writer is restored the
+	 * same way as one saved through the DOM
+	 */
+	@Test
+	public void testSaveStreamingMatchesDom() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("api_description"); //$NON-NLS-1$
+		writeSyntheticDescription(file, 2, 3, 4);
+		ProjectApiDescription description = new ProjectApiDescription(getSyntheticProject());
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		assertTrue(manager.restoreDescription(getSyntheticProject(), description, file, true));
+
+		Path dom = folder.getRoot().toPath().resolve("dom").resolve("api_description"); //$NON-NLS-1$ //$NON-NLS-2$
+		Path streaming = folder.getRoot().toPath().resolve("streaming").resolve("api_description"); //$NON-NLS-1$ //$NON-NLS-2$
+		manager.saveDescription(description, dom, false);
+		manager.saveDescription(description, streaming, true);
+		assertEquals(restoreAndWrite(dom, true), restoreAndWrite(streaming, true));
+		assertEquals(Util.serializeDocument(description.getXML()), Util.serializeDocument(readBack(streaming).getXML()));
+	}
+
+	private static ProjectApiDescription readBack(Path file) throws CoreException {
+		ProjectApiDescription description = new ProjectApiDescription(getSyntheticProject());
+		assertTrue(ApiDescriptionManager.getManager().restoreDescription(getSyntheticProject(), description, file, false));
+		return description;
+	}
+
+	/**
+	 * Tests that descriptions of another version are not restored
+	 */
+	@Test
+	public void testOutdatedVersion() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("api_description"); //$NON-NLS-1$
+		Files.writeString(file, "<component id=\"" + PROJECT_NAME + "\" version=\"1.0\"><package visibility=\"1\"/></component>"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (boolean streaming : new boolean[] { true, false }) {
+			ProjectApiDescription description = new ProjectApiDescription(getSyntheticProject());
+			assertFalse(ApiDescriptionManager.getManager().restoreDescription(getSyntheticProject(), description, file, streaming));
+		}
+	}
+}
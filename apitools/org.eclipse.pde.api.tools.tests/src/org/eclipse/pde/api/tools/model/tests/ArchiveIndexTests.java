@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.ArchiveIndex;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link ArchiveIndex} used by archive type containers
+ */
+public class ArchiveIndexTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path getSampleJar() {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Missing jar file", path.toFile().exists()); //$NON-NLS-1$
+		return path.toPath();
+	}
+
+	/**
+	 * Tests that every class file is read from the index with the same
+	 * contents as from the zip file
+	 */
+	@Test
+	public void testContentsMatchZipFile() throws IOException {
+		Path jar = getSampleJar();
+		ArchiveIndex index = ArchiveIndex.open(jar, null);
+		assertNotNull("The sample jar should be indexed", index); //$NON-NLS-1$
+		int classes = 0;
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			for (ZipEntry entry : Collections.list(zip.entries())) {
+				if (entry.getName().endsWith(".class")) { //$NON-NLS-1$
+					classes++;
+					assertArrayEquals(entry.getName(), zip.getInputStream(entry).readAllBytes(), index.read(entry.getName()));
+				}
+			}
+		}
+		assertEquals(classes, index.size());
+		assertNull(index.read("does/not/Exist.class")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests the package map built from the index
+	 */
+	@Test
+	public void testPackages() throws IOException {
+		ArchiveIndex index = ArchiveIndex.open(getSampleJar(), null);
+		assertNotNull(index);
+		Map<String, Map<String, String>> packages = index.getPackages();
+		assertEquals(3, packages.size());
+		assertTrue(packages.containsKey("")); //$NON-NLS-1$
+		assertTrue(packages.containsKey("a")); //$NON-NLS-1$
+		assertTrue(packages.containsKey("a.b.c")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the index is persisted, reused and rebuilt once the archive
+	 * changes
+	 */
+	@Test
+	public void testPersistedIndex() throws IOException {
+		Path jar = folder.newFolder("jars").toPath().resolve("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.copy(getSampleJar(), jar);
+		Path indexLocation = folder.newFolder("index").toPath(); //$NON-NLS-1$
+		ArchiveIndex first = ArchiveIndex.open(jar, indexLocation);
+		assertNotNull(first);
+		Path indexFile;
+		try (Stream<Path> files = Files.list(indexLocation)) {
+			indexFile = files.findFirst().orElse(null);
+		}
+		assertNotNull("The index should have been persisted", indexFile); //$NON-NLS-1$
+		FileTime written = Files.getLastModifiedTime(indexFile);
+
+		ArchiveIndex second = ArchiveIndex.open(jar, indexLocation);
+		assertNotNull(second);
+		assertEquals(first.size(), second.size());
+		assertEquals("The index should have been reused", written, Files.getLastModifiedTime(indexFile)); //$NON-NLS-1$
+
+		// touching the archive invalidates the index
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+		Files.setLastModifiedTime(indexFile, FileTime.fromMillis(0));
+		ArchiveIndex third = ArchiveIndex.open(jar, indexLocation);
+		assertNotNull(third);
+		assertTrue("The index should have been rewritten", Files.getLastModifiedTime(indexFile).toMillis() > 0); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that non archives are not indexed
+	 */
+	@Test
+	public void testNotAnArchive() throws IOException {
+		Path file = folder.newFile("notajar.jar").toPath(); //$NON-NLS-1$
+		Files.writeString(file, "this is not a zip file, but it is long enough"); //$NON-NLS-1$
+		assertNull(ArchiveIndex.open(file, null));
+	}
+
+	/**
+	 * Tests that a released index maps the archive again on the next read and
+	 * that the archive can be deleted once the index is released
+	 */
+	@Test
+	public void testRelease() throws IOException {
+		Path jar = folder.getRoot().toPath().resolve("copy.jar"); //$NON-NLS-1$
+		Files.copy(getSampleJar(), jar);
+		ArchiveIndex index = ArchiveIndex.open(jar, null);
+		assertNotNull(index);
+		String name = index.getPackages().values().iterator().next().values().iterator().next();
+		byte[] contents = index.read(name);
+		assertNotNull(contents);
+		index.release();
+		assertArrayEquals(contents, index.read(name));
+		index.release();
+		Files.delete(jar);
+		assertTrue(Files.notExists(jar));
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.Test;
+
+/**
+ * Tests that type roots sharing a single class file scan decode their class
+ * file only once and produce the same structure and references as type roots
+ * that decode it for each use
+ */
+public class SharedClassScanTests {
+
+	private static final String TYPE_NAME = "java.util.ArrayList"; //$NON-NLS-1$
+
+	/**
+	 * Type root on the class file bytes of a JDK type that counts how often
+	 * its contents are read
+	 */
+	static class CountingTypeRoot extends AbstractApiTypeRoot {
+		final byte[] bytes;
+		final boolean share;
+		int reads = 0;
+
+		CountingTypeRoot(byte[] bytes, boolean share) {
+			super(null, TYPE_NAME);
+			this.bytes = bytes;
+			this.share = share;
+		}
+
+		@Override
+		public byte[] getContents() {
+			reads++;
+			return bytes;
+		}
+
+		@Override
+		protected boolean shareScan() {
+			return share;
+		}
+
+		@Override
+		public String getTypeName() {
+			return getName();
+		}
+	}
+
+	private static byte[] getBytes() throws IOException {
+		try (InputStream in = Object.class.getResourceAsStream('/' + TYPE_NAME.replace('.', '/') + ".class")) { //$NON-NLS-1$
+			assertNotNull(in);
+			return in.readAllBytes();
+		}
+	}
+
+	private static List<String> getReferences(IApiType type) throws CoreException {
+		return type.extractReferences(IReference.MASK_REF_ALL, null).stream().map(Object::toString).sorted().toList();
+	}
+
+	private static List<String> getMembers(IApiType type) {
+		return Arrays.stream(type.getMethods()).map(m -> m.getName() + m.getSignature() + m.getModifiers()).sorted().toList();
+	}
+
+	/**
+	 * Tests that the structure and the references of a shared type root are
+	 * extracted from one read of its class file
+	 */
+	@Test
+	public void testSingleRead() throws Exception {
+		CountingTypeRoot root = new CountingTypeRoot(getBytes(), true);
+		IApiType type = root.getStructure();
+		assertNotNull(type);
+		assertFalse(getReferences(type).isEmpty());
+		assertEquals(1, root.reads);
+	}
+
+	/**
+	 * Tests that a shared scan produces the same structure and references as
+	 * separate scans
+	 */
+	@Test
+	public void testSameResults() throws Exception {
+		byte[] bytes = getBytes();
+		CountingTypeRoot shared = new CountingTypeRoot(bytes, true);
+		CountingTypeRoot separate = new CountingTypeRoot(bytes, false);
+		IApiType sharedType = shared.getStructure();
+		IApiType separateType = separate.getStructure();
+		assertEquals(separateType.getModifiers(), sharedType.getModifiers());
+		assertEquals(separateType.getSuperclassName(), sharedType.getSuperclassName());
+		assertEquals(Arrays.asList(separateType.getSuperInterfaceNames()), Arrays.asList(sharedType.getSuperInterfaceNames()));
+		assertEquals(getMembers(separateType), getMembers(sharedType));
+		assertEquals(getReferences(separateType), getReferences(sharedType));
+		assertEquals(2, separate.reads);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,12 +23,17 @@ import java.io.File;
 import java.io.FileFilter;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanVisitor;
+import org.eclipse.pde.api.tools.internal.search.XmlReferenceDescriptorWriter;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.After;
@@ -185,6 +190,64 @@ public class UseSearchTests extends SearchTest {
 		}
 	}
 
+	/**
+	 * Tests that searching the components concurrently generates the same XML
+	 * report as searching them one after the other
+	 */
+	@Test
+	public void testSearchXmlReporterParallel() throws Exception {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		engine.setParallelism(0);
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, new XmlSearchReporter(XML_PATH.toOSString(), false), null);
+		setProjectsUsedBy(
+				new String[] {getProjectId(P1_NAME, DEFAULT_VERSION), getProjectId(P2_NAME, DEFAULT_VERSION)},
+				new String[][] {{getProjectId(P2_NAME, DEFAULT_VERSION), getProjectId(P3_NAME, DEFAULT_VERSION)}, {getProjectId(P3_NAME, DEFAULT_VERSION)}});
+		assertXMLReport(XML_PATH);
+		IPath sequential = TMP_PATH.append("sequential"); //$NON-NLS-1$
+		new ApiSearchEngine().search(getTestBaseline(), TEST_REQUESTOR, new XmlSearchReporter(sequential.toOSString(), false), null);
+		assertEquals("The same references should be reported", countReferences(sequential), countReferences(XML_PATH)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that results reported again to the same location are written to
+	 * new chunk files, and that the parser visits all of the chunks
+	 */
+	@Test
+	public void testSearchXmlReporterChunks() throws Exception {
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		XmlSearchReporter reporter = new XmlSearchReporter(XML_PATH.toOSString(), false);
+		new ApiSearchEngine().search(getTestBaseline(), TEST_REQUESTOR, reporter, null);
+		int count = countReferences(XML_PATH);
+		new ApiSearchEngine().search(getTestBaseline(), TEST_REQUESTOR, reporter, null);
+		assertEquals("The references of both searches should be parsed", 2 * count, countReferences(XML_PATH)); //$NON-NLS-1$
+		File[] chunks = XML_PATH.append(getProjectId(P1_NAME, DEFAULT_VERSION)).append(getProjectId(P2_NAME, DEFAULT_VERSION)).toFile()
+				.listFiles((FileFilter) File::isDirectory)[0].listFiles();
+		HashSet<String> names = new HashSet<>();
+		for (File chunk : chunks) {
+			names.add(chunk.getName());
+		}
+		assertTrue("The first chunk should exist", names.contains(XmlReferenceDescriptorWriter.FIELD_REFERENCES + ".xml")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The second chunk should exist", names.contains(XmlReferenceDescriptorWriter.FIELD_REFERENCES + "_1.xml")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the number of references the {@link UseScanParser} visits in the
+	 *         given report
+	 */
+	private int countReferences(IPath reportroot) throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		new UseScanParser().parse(reportroot.toOSString(), null, new UseScanVisitor() {
+			@Override
+			public void visitReference(IReferenceDescriptor reference) {
+				count.incrementAndGet();
+			}
+		});
+		return count.get();
+	}
+
 	String getProjectId(String project, String version) {
 		StringBuilder buffer = new StringBuilder();
 		buffer.append(project).append(" ").append('(').append(version).append(')'); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.tests;
 
+import org.eclipse.pde.api.tools.builder.tests.performance.ApiDescriptionPersistenceBenchmark;
+import org.eclipse.pde.api.tools.builder.tests.performance.ApiToolsBenchmarks;
 import org.eclipse.pde.api.tools.builder.tests.performance.PerformanceTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -23,7 +25,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-		PerformanceTest.class
+		PerformanceTest.class, ApiDescriptionPersistenceBenchmark.class, ApiToolsBenchmarks.class
 })
 public class ApiToolsPerformanceTestSuite {
 
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache.Statistics;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentWeightedCache}
+ */
+public class ConcurrentWeightedCacheTests {
+
+	@Test
+	public void testHitsAndMisses() {
+		ConcurrentWeightedCache<String, String> cache = new ConcurrentWeightedCache<>(10, 1);
+		cache.put("a", "A"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("A", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(cache.get("b")); //$NON-NLS-1$
+		Statistics stats = cache.getStatistics();
+		assertEquals(1, stats.hits());
+		assertEquals(1, stats.misses());
+		assertEquals(0, stats.evictions());
+		assertEquals(1, stats.size());
+	}
+
+	@Test
+	public void testWeightEvictsLeastRecentlyUsed() {
+		ConcurrentWeightedCache<String, String> cache = new ConcurrentWeightedCache<>(10, 0, String::length);
+		cache.put("a", "xxxx"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "xxxx"); //$NON-NLS-1$ //$NON-NLS-2$
+		// touch "a" so that "b" is the eldest entry
+		assertNotNull(cache.get("a")); //$NON-NLS-1$
+		cache.put("c", "xxxx"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("b should have been evicted", cache.get("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull(cache.get("a")); //$NON-NLS-1$
+		assertNotNull(cache.get("c")); //$NON-NLS-1$
+		assertEquals(8, cache.getWeight());
+		assertEquals(1, cache.getStatistics().evictions());
+	}
+
+	@Test
+	public void testRemoveAndFlushUpdateWeight() {
+		ConcurrentWeightedCache<String, String> cache = new ConcurrentWeightedCache<>(100, 10, String::length);
+		cache.put("a", "xxx"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "xx"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("xxx", cache.put("a", "x")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(3, cache.getWeight());
+		assertEquals("xx", cache.remove("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, cache.getWeight());
+		cache.flush();
+		assertTrue(cache.isEmpty());
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void testConcurrentAccessStaysBounded() throws Exception {
+		ConcurrentWeightedCache<Integer, Integer> cache = new ConcurrentWeightedCache<>(500, 50);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int offset = t * 10_000;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10_000; i++) {
+						cache.computeIfAbsent(offset + i, k -> k);
+						cache.get(offset + i / 2);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue("cache exceeded its limit: " + cache, cache.size() <= 500); //$NON-NLS-1$
+		assertEquals(cache.size(), cache.getWeight());
+		assertTrue(cache.getStatistics().evictions() > 0);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,11 +99,17 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	public static final String WORKSPACE_API_BASELINE_ID = "workspace"; //$NON-NLS-1$
 
 	/**
-	 * Constant representing the file extension for a baseline file. Value is:
-	 * <code>.profile</code>
+	 * Constant representing the file extension for an XML baseline file. Value
+	 * is: <code>.profile</code>
 	 */
 	private static final String BASELINE_FILE_EXTENSION = ".profile"; //$NON-NLS-1$
 
+	/**
+	 * Constant representing the file extension for a binary baseline snapshot.
+	 * Value is: <code>.baseline</code>
+	 */
+	private static final String SNAPSHOT_FILE_EXTENSION = ApiBaselineSnapshot.FILE_EXTENSION;
+
 	/**
 	 * The main cache for the manager. The form of the cache is:
 	 *
@@ -212,12 +218,14 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				return success;
 			}
 			// remove from filesystem
-			File file = savelocation.append(name + BASELINE_FILE_EXTENSION).toFile();
-			if (file.exists()) {
-				try {
-					success &= Files.deleteIfExists(file.toPath());
-				} catch (IOException e) {
-					ApiPlugin.log(e);
+			for (String extension : new String[] { SNAPSHOT_FILE_EXTENSION, BASELINE_FILE_EXTENSION }) {
+				File file = savelocation.append(name + extension).toFile();
+				if (file.exists()) {
+					try {
+						success &= Files.deleteIfExists(file.toPath());
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
 				}
 			}
 			fNeedsSaving = true;
@@ -230,7 +238,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	/**
 	 * Loads the infos for the given baseline from persisted storage (the
-	 * *.profile file)
+	 * *.baseline snapshot or, if there is no usable one, the *.profile file)
 	 *
 	 * @param baseline the given baseline
 	 * @throws CoreException if an exception occurs while loading baseline infos
@@ -243,6 +251,23 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		String filename = handlecache.get(baseline.getName());
 		if (filename != null) {
 			File file = new File(filename);
+			if (file.getName().endsWith(SNAPSHOT_FILE_EXTENSION)) {
+				File profile = new File(file.getParentFile(), baseline.getName() + BASELINE_FILE_EXTENSION);
+				// the XML description is authoritative, a snapshot older than
+				// it was not written together with it (e.g. after a downgrade)
+				ApiBaselineSnapshot snapshot = null;
+				if (!profile.exists() || profile.lastModified() <= file.lastModified()) {
+					snapshot = readSnapshot(file.toPath());
+				}
+				if (snapshot != null) {
+					baseline.restoreFrom(snapshot);
+					hasinfos.add(baseline.getName());
+					return;
+				}
+				// unreadable, stale or later release snapshot, fall back to
+				// the XML description
+				file = profile;
+			}
 			if (file.exists()) {
 				try (FileInputStream inputStream = new FileInputStream(file)) {
 					baseline.restoreFrom(inputStream);
@@ -254,6 +279,24 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Reads the baseline snapshot from the given file
+	 *
+	 * @return the snapshot or <code>null</code> if there is none or it cannot be
+	 *         used
+	 */
+	private static ApiBaselineSnapshot readSnapshot(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			return ApiBaselineSnapshot.read(file);
+		} catch (IOException e) {
+			ApiPlugin.log(Status.warning("Unable to read API baseline snapshot " + file, e)); //$NON-NLS-1$
+			return null;
+		}
+	}
+
 	public boolean isBaselineLoaded(IApiBaseline baseline) {
 		return hasinfos.contains(baseline.getName());
 	}
@@ -283,14 +326,19 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				handlecache = new ConcurrentHashMap<>(8);
 				hasinfos = ConcurrentHashMap.newKeySet(8);
 				ConcurrentHashMap<String, IApiBaseline> bcache = new ConcurrentHashMap<>(8);
-				File[] baselines = savelocation.toFile().listFiles((FileFilter) pathname -> pathname.getName().endsWith(BASELINE_FILE_EXTENSION));
+				File[] baselines = savelocation.toFile().listFiles((FileFilter) pathname -> pathname.getName().endsWith(BASELINE_FILE_EXTENSION)
+						|| pathname.getName().endsWith(SNAPSHOT_FILE_EXTENSION));
 				if (baselines != null) {
-					IApiBaseline newbaseline = null;
 					for (File baseline : baselines) {
 						if (baseline.exists()) {
-							newbaseline = new ApiBaseline(IPath.fromOSString(baseline.getName()).removeFileExtension().toString());
-							handlecache.put(newbaseline.getName(), baseline.getAbsolutePath());
-							bcache.put(newbaseline.getName(), newbaseline);
+							String name = IPath.fromOSString(baseline.getName()).removeFileExtension().toString();
+							// a snapshot takes precedence over the XML description
+							if (baseline.getName().endsWith(SNAPSHOT_FILE_EXTENSION)) {
+								handlecache.put(name, baseline.getAbsolutePath());
+							} else {
+								handlecache.putIfAbsent(name, baseline.getAbsolutePath());
+							}
+							bcache.computeIfAbsent(name, ApiBaseline::new);
 						}
 					}
 				}
@@ -319,7 +367,9 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	/**
 	 * Persists all of the cached elements to individual xml files named with
-	 * the id of the API baseline
+	 * the id of the API baseline. A binary snapshot is written next to each
+	 * xml file to speed up restoring the baseline, it is only a cache and is
+	 * ignored if it cannot be read.
 	 */
 	private void persistStateCache() throws CoreException {
 		if (savelocation == null) {
@@ -341,6 +391,10 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
 				writeBaselineDescription(baseline, file);
+				Path snapshot = dir.resolve(id + SNAPSHOT_FILE_EXTENSION);
+				if (writeBaselineSnapshot(baseline, snapshot)) {
+					file = snapshot;
+				}
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -349,9 +403,46 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Writes the current state of the {@link IApiBaseline} as XML to the given file
+	 * Writes the current state of the {@link IApiBaseline} as binary snapshot to
+	 * the given file. Manifests recorded by the snapshot previously written to
+	 * that file are reused for unchanged bundles. A snapshot that cannot be
+	 * written is deleted, the baseline is then restored from its XML
+	 * description.
+	 *
+	 * @return whether the snapshot was written
+	 */
+	private boolean writeBaselineSnapshot(IApiBaseline baseline, Path file) {
+		long start = System.currentTimeMillis();
+		try {
+			ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.create(baseline, readSnapshot(file));
+			Files.createDirectories(file.getParent());
+			ApiBaselineSnapshot.write(snapshot, file);
+		} catch (IOException e) {
+			ApiPlugin.log(Status.warning("Unable to write API baseline snapshot " + file, e)); //$NON-NLS-1$
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e1) {
+				ApiPlugin.log(e1);
+			}
+			return false;
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write baseline snapshot " + baseline.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the current state of the {@link IApiBaseline} as XML to the given
+	 * file. The XML description is meant for interchange, it can be read back
+	 * with {@link #readBaselineComponents(ApiBaseline, InputStream)}.
+	 *
+	 * @param baseline the baseline to export
+	 * @param file the file to write to
+	 * @throws CoreException if the file cannot be written
 	 */
-	private void writeBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
+	public void writeBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
 		Document xml = getProfileXML(baseline);
 		try {
 			Util.writeDocumentToFile(xml, file);
@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.BuilderMessages;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Binary, versioned description of a persisted API baseline.
+ * <p>
+ * Next to the id, version and location of every component the snapshot keeps
+ * the bundle manifest along with the modification stamp of the file it was read
+ * from. Restoring a baseline therefore does not need to open every bundle of
+ * the baseline again: as long as a bundle is unchanged on disk its component is
+ * created from the stored manifest, everything else (class files, API
+ * descriptions) is loaded lazily by the component when first asked for.
+ * Components whose bundle changed are loaded from disk as before.
+ * </p>
+ * <p>
+ * The format follows the one of the API build state: plug-in id, kind and
+ * version followed by the data. A snapshot written by a later release is
+ * ignored, in which case the XML baseline description is used if there is one.
+ * </p>
+ *
+ * @see ApiBaselineManager
+ */
+public final class ApiBaselineSnapshot {
+
+	/**
+	 * File extension for baseline snapshots. Value is: <code>.baseline</code>
+	 */
+	public static final String FILE_EXTENSION = ".baseline"; //$NON-NLS-1$
+
+	private static final String KIND = "BASELINE"; //$NON-NLS-1$
+
+	/**
+	 * Current version of the format. Unlike build states, baselines cannot be
+	 * recomputed, so later versions must keep reading older snapshots.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * A persisted component of the baseline
+	 *
+	 * @param id the symbolic name of the component
+	 * @param version the version of the component
+	 * @param location the location of the component in the local file system
+	 * @param modified the last modification time of the manifest source
+	 * @param length the length of the manifest source
+	 * @param manifest the manifest headers or <code>null</code> if the
+	 *            manifest is not known
+	 */
+	public record ComponentEntry(String id, String version, String location, long modified, long length,
+			Map<String, String> manifest) {
+
+		/**
+		 * @return whether the stored manifest is still the one of the bundle on
+		 *         disk
+		 */
+		boolean isUpToDate() {
+			if (manifest == null) {
+				return false;
+			}
+			File source = getManifestSource(location);
+			return source.isFile() && source.lastModified() == modified && source.length() == length;
+		}
+	}
+
+	private final String fName;
+	private final String fLocation;
+	private final List<ComponentEntry> fEntries;
+
+	private ApiBaselineSnapshot(String name, String location, List<ComponentEntry> entries) {
+		fName = name;
+		fLocation = location;
+		fEntries = entries;
+	}
+
+	/**
+	 * Creates a snapshot of the given baseline. The manifests of components
+	 * that are also contained in the given previous snapshot and unchanged on
+	 * disk are taken from the previous snapshot, all others are read from disk.
+	 *
+	 * @param baseline the baseline to describe
+	 * @param previous the previously persisted snapshot or <code>null</code>
+	 * @return a new snapshot, never <code>null</code>
+	 */
+	public static ApiBaselineSnapshot create(IApiBaseline baseline, ApiBaselineSnapshot previous) {
+		Map<String, ComponentEntry> known = new HashMap<>();
+		if (previous != null) {
+			for (ComponentEntry entry : previous.fEntries) {
+				known.put(entry.location(), entry);
+			}
+		}
+		List<ComponentEntry> entries = new ArrayList<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			Set<IApiComponent> all = baseline.getAllApiComponents(component.getSymbolicName());
+			// if the baseline has multiple versions, persist all versions
+			for (IApiComponent current : all.isEmpty() ? Set.of(component) : all) {
+				if (current.isSystemComponent()) {
+					continue;
+				}
+				String location = current.getLocation();
+				ComponentEntry entry = known.get(location);
+				if (entry == null || !entry.isUpToDate()) {
+					entry = newEntry(current.getSymbolicName(), current.getVersion(), location);
+				} else {
+					entry = new ComponentEntry(current.getSymbolicName(), current.getVersion(), location,
+							entry.modified(), entry.length(), entry.manifest());
+				}
+				entries.add(entry);
+			}
+		}
+		return new ApiBaselineSnapshot(baseline.getName(), baseline.getLocation(), entries);
+	}
+
+	/**
+	 * Reads the manifest of the bundle at the given location
+	 */
+	private static ComponentEntry newEntry(String id, String version, String location) {
+		File source = getManifestSource(location);
+		// take the stamp before reading so a concurrent change is noticed on
+		// the next restore
+		long modified = source.lastModified();
+		long length = source.length();
+		Map<String, String> manifest = null;
+		try {
+			Map<String, String> headers = ManifestUtils.loadManifest(new File(location));
+			manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			manifest.putAll(headers);
+		} catch (CoreException e) {
+			// restored from disk as before
+		}
+		return new ComponentEntry(id, version, location, modified, length, manifest);
+	}
+
+	/**
+	 * Returns the file the manifest of the bundle at the given location is read
+	 * from, i.e. the archive itself or the manifest file of a bundle directory
+	 */
+	static File getManifestSource(String location) {
+		File file = new File(location);
+		if (file.isDirectory()) {
+			return new File(file, JarFile.MANIFEST_NAME);
+		}
+		return file;
+	}
+
+	/**
+	 * Creates the components of this snapshot for the given baseline. The
+	 * components are not added to the baseline.
+	 *
+	 * @param baseline the baseline to create components for
+	 * @return the components sorted by name
+	 * @throws CoreException if a component cannot be created
+	 */
+	public IApiComponent[] restore(ApiBaseline baseline) throws CoreException {
+		long start = System.currentTimeMillis();
+		if (fLocation != null) {
+			baseline.setLocation(fLocation);
+		}
+		List<IApiComponent> components = new ArrayList<>(fEntries.size());
+		int cached = 0;
+		for (ComponentEntry entry : fEntries) {
+			IApiComponent component;
+			if (entry.isUpToDate()) {
+				Map<String, String> manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+				manifest.putAll(entry.manifest());
+				component = ApiModelFactory.newApiComponent(baseline, entry.location(), manifest);
+				cached++;
+			} else {
+				component = ApiModelFactory.newApiComponent(baseline, entry.location());
+			}
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// Avoid unstable bundle traversal order to simplify our life
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore baseline snapshot " + fName + " (" + cached + "/" + fEntries.size() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " manifests cached): " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	/**
+	 * @return the name of the baseline
+	 */
+	public String getName() {
+		return fName;
+	}
+
+	/**
+	 * @return the location of the baseline or <code>null</code>
+	 */
+	public String getLocation() {
+		return fLocation;
+	}
+
+	/**
+	 * @return the persisted components
+	 */
+	public List<ComponentEntry> getComponents() {
+		return Collections.unmodifiableList(fEntries);
+	}
+
+	/**
+	 * Reads a snapshot from the given file
+	 *
+	 * @param file the file to read
+	 * @return the snapshot or <code>null</code> if the file was written in a
+	 *         newer format
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public static ApiBaselineSnapshot read(Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			return read(in);
+		}
+	}
+
+	/**
+	 * Reads a snapshot from an input stream
+	 *
+	 * @return the snapshot or <code>null</code> if the stream was written in a
+	 *         newer format
+	 * @throws IOException if the stream cannot be read or is not a snapshot
+	 */
+	public static ApiBaselineSnapshot read(DataInputStream in) throws IOException {
+		String pluginID = in.readUTF();
+		if (!pluginID.equals(ApiPlugin.PLUGIN_ID)) {
+			throw new IOException(BuilderMessages.build_wrongFileFormat);
+		}
+		String kind = in.readUTF();
+		if (!kind.equals(KIND)) {
+			throw new IOException(BuilderMessages.build_wrongFileFormat);
+		}
+		if (in.readInt() > VERSION) {
+			// written by a later release - the XML description is used instead
+			return null;
+		}
+		String name = in.readUTF();
+		String location = in.readBoolean() ? IPath.fromPortableString(in.readUTF()).toOSString() : null;
+		int count = in.readInt();
+		List<ComponentEntry> entries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String id = in.readUTF();
+			String version = in.readUTF();
+			String componentLocation = IPath.fromPortableString(in.readUTF()).toOSString();
+			long modified = in.readLong();
+			long length = in.readLong();
+			int headers = in.readInt();
+			Map<String, String> manifest = null;
+			if (headers >= 0) {
+				// manifest headers are case insensitive
+				manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+				for (int j = 0; j < headers; j++) {
+					manifest.put(readString(in), readString(in));
+				}
+			}
+			entries.add(new ComponentEntry(id, version, componentLocation, modified, length, manifest));
+		}
+		return new ApiBaselineSnapshot(name, location, entries);
+	}
+
+	/**
+	 * Writes the given snapshot to the given file. The file is replaced
+	 * atomically, a reader never sees a partially written snapshot.
+	 *
+	 * @param snapshot the snapshot to write
+	 * @param file the file to write to
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public static void write(ApiBaselineSnapshot snapshot, Path file) throws IOException {
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				write(snapshot, out);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * Writes the given snapshot to an output stream
+	 */
+	public static void write(ApiBaselineSnapshot snapshot, DataOutputStream out) throws IOException {
+		out.writeUTF(ApiPlugin.PLUGIN_ID);
+		out.writeUTF(KIND);
+		out.writeInt(VERSION);
+		out.writeUTF(snapshot.fName);
+		out.writeBoolean(snapshot.fLocation != null);
+		if (snapshot.fLocation != null) {
+			out.writeUTF(IPath.fromOSString(snapshot.fLocation).toPortableString());
+		}
+		out.writeInt(snapshot.fEntries.size());
+		for (ComponentEntry entry : snapshot.fEntries) {
+			out.writeUTF(entry.id());
+			out.writeUTF(entry.version());
+			out.writeUTF(IPath.fromOSString(entry.location()).toPortableString());
+			out.writeLong(entry.modified());
+			out.writeLong(entry.length());
+			Map<String, String> manifest = entry.manifest();
+			if (manifest == null) {
+				out.writeInt(-1);
+				continue;
+			}
+			out.writeInt(manifest.size());
+			for (Map.Entry<String, String> header : manifest.entrySet()) {
+				writeString(out, header.getKey());
+				writeString(out, header.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Manifest headers such as <code>Export-Package</code> may exceed the
+	 * 64k limit of {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
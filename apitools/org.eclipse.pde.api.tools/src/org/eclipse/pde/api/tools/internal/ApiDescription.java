@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -239,6 +242,48 @@ public class ApiDescription implements IApiDescription {
 			xmlElement.setAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(this.visibility));
 			xmlElement.setAttribute(IApiXmlConstants.ATTR_RESTRICTIONS, Integer.toString(this.restrictions));
 		}
+
+		/**
+		 * Writes this node to the given XML stream as a child of the element
+		 * currently written. Produces the same XML as
+		 * {@link #persistXML(Document, Element)} without building a document.
+		 *
+		 * @param writer the XML stream
+		 * @throws XMLStreamException if the node cannot be written
+		 */
+		void persistXML(XMLStreamWriter writer) throws XMLStreamException {
+			if (RestrictionModifiers.isUnrestricted(this.restrictions)) {
+				return;
+			}
+			switch (element.getElementType()) {
+				case IElementDescriptor.METHOD -> {
+					IMethodDescriptor md = (IMethodDescriptor) element;
+					writer.writeEmptyElement(IApiXmlConstants.ELEMENT_METHOD);
+					writer.writeAttribute(IApiXmlConstants.ATTR_NAME, md.getName());
+					writer.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, md.getSignature());
+					persistAnnotations(writer);
+				}
+				case IElementDescriptor.FIELD -> {
+					IFieldDescriptor fd = (IFieldDescriptor) element;
+					writer.writeEmptyElement(IApiXmlConstants.ELEMENT_FIELD);
+					writer.writeAttribute(IApiXmlConstants.ATTR_NAME, fd.getName());
+					persistAnnotations(writer);
+				}
+				default -> { /**/ }
+			}
+		}
+
+		/**
+		 * Adds visibility and restrictions to the element currently written to
+		 * the given XML stream.
+		 *
+		 * @param writer the XML stream
+		 * @throws XMLStreamException if the attributes cannot be written
+		 */
+		void persistAnnotations(XMLStreamWriter writer) throws XMLStreamException {
+			writer.writeAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(this.visibility));
+			writer.writeAttribute(IApiXmlConstants.ATTR_RESTRICTIONS, Integer.toString(this.restrictions));
+		}
 	}
 
 	/**
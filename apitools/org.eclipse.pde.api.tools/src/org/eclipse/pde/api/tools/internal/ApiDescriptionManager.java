@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
@@ -25,6 +29,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.jar.JarFile;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+
 import org.eclipse.core.resources.ISaveContext;
 import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.runtime.CoreException;
@@ -55,6 +62,9 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Manages a cache of API descriptions for Java projects. Descriptions are
@@ -64,6 +74,14 @@ import org.w3c.dom.NodeList;
  */
 public final class ApiDescriptionManager implements ISaveParticipant {
 
+	/**
+	 * System property to disable streaming of saved API descriptions, set to
+	 * <code>false</code> to restore and save them through a DOM document
+	 */
+	public static final String STREAMING_PROPERTY = "org.eclipse.pde.api.tools.apiDescriptionStreaming"; //$NON-NLS-1$
+
+	static final boolean STREAMING = Boolean.parseBoolean(System.getProperty(STREAMING_PROPERTY, Boolean.TRUE.toString()));
+
 	/**
 	 * Singleton
 	 */
@@ -231,9 +249,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					saveDescription(desc, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME), STREAMING);
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -242,6 +259,27 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		}
 	}
 
+	/**
+	 * Writes the given API description as XML to the given file.
+	 *
+	 * @param description the description to save
+	 * @param file the file to write to
+	 * @param streaming whether to write the XML while visiting the description
+	 *            or to build a DOM document first
+	 * @throws CoreException if the description cannot be serialized
+	 * @throws IOException if the file cannot be written
+	 */
+	public void saveDescription(ProjectApiDescription description, Path file, boolean streaming) throws CoreException, IOException {
+		if (!streaming) {
+			Util.writeDocumentToFile(description.getXML(), file);
+			return;
+		}
+		Files.createDirectories(file.getParent());
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			description.writeXML(out);
+		}
+	}
+
 	/**
 	 * Restores the API description from its saved file, if any and returns true
 	 * if successful.
@@ -249,26 +287,80 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
-		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
-		if (file.exists()) {
-			try {
-				String xml = Files.readString(file.toPath());
-				Element root = Util.parseDocument(xml);
-				if (!root.getNodeName().equals(IApiXmlConstants.ELEMENT_COMPONENT)) {
-					abort(ScannerMessages.ComponentXMLScanner_0, null);
-				}
-				long timestamp = getLong(root, IApiXmlConstants.ATTR_MODIFICATION_STAMP);
-				String version = root.getAttribute(IApiXmlConstants.ATTR_VERSION);
-				description.setEmbeddedVersion(version);
-				if (IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
-					description.fPackageTimeStamp = timestamp;
-					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
-					restoreChildren(description, root, null, description.fPackageMap);
-					return true;
-				}
-			} catch (IOException e) {
-				abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		Path file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toPath();
+		return restoreDescription(project, description, file, STREAMING);
+	}
+
+	/**
+	 * Restores the API description from the given file, if it exists, and
+	 * returns true if successful.
+	 *
+	 * @param project the project of the description
+	 * @param description the description to restore
+	 * @param file the saved description
+	 * @param streaming whether to build the description while the file is
+	 *            parsed or to parse it into a DOM document first
+	 * @return whether the restore succeeded
+	 * @throws CoreException if the file cannot be read or is malformed
+	 */
+	public boolean restoreDescription(IJavaProject project, ProjectApiDescription description, Path file, boolean streaming) throws CoreException {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		try {
+			if (streaming) {
+				return restoreFromStream(project, description, file);
 			}
+			return restoreFromDocument(project, description, file);
+		} catch (IOException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the description nodes while the file is parsed, the XML is never
+	 * held in memory as a whole
+	 */
+	private boolean restoreFromStream(IJavaProject project, ProjectApiDescription description, Path file) throws CoreException, IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
+					.createSAXParserWithErrorOnDOCTYPE();
+			DescriptionHandler handler = new DescriptionHandler(project, description);
+			parser.parse(in, handler);
+			return true;
+		} catch (OutdatedDescriptionException e) {
+			return false;
+		} catch (SAXException e) {
+			if (e.getException() instanceof CoreException ce) {
+				throw ce;
+			}
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		} catch (ParserConfigurationException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the file into a DOM document and builds the description nodes from
+	 * it
+	 */
+	private boolean restoreFromDocument(IJavaProject project, ProjectApiDescription description, Path file) throws CoreException, IOException {
+		String xml = Files.readString(file);
+		Element root = Util.parseDocument(xml);
+		if (!root.getNodeName().equals(IApiXmlConstants.ELEMENT_COMPONENT)) {
+			abort(ScannerMessages.ComponentXMLScanner_0, null);
+		}
+		long timestamp = getLong(root, IApiXmlConstants.ATTR_MODIFICATION_STAMP);
+		String version = root.getAttribute(IApiXmlConstants.ATTR_VERSION);
+		description.setEmbeddedVersion(version);
+		if (IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			restoreChildren(description, root, null, description.fPackageMap);
+			return true;
 		}
 		return false;
 	}
@@ -371,6 +463,227 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		}
 	}
 
+	/**
+	 * Signals that the saved description was written in another format version
+	 * and is not restored.
+	 */
+	private static final class OutdatedDescriptionException extends SAXException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * Restores a {@link ProjectApiDescription} from the events of a SAX parser.
+	 * Builds the same nodes as the DOM based restore, but only keeps the chain
+	 * of nodes from the root to the element currently parsed.
+	 */
+	private static final class DescriptionHandler extends DefaultHandler {
+
+		/**
+		 * An open element: the node created for it and, for packages whose
+		 * fragments are still collected, the data to create the node from
+		 */
+		private static final class Frame {
+			ManifestNode node;
+			Map<IElementDescriptor, ManifestNode> children;
+			List<IJavaElement> fragments;
+			String packageName;
+			int visibility;
+			int restrictions;
+
+			Frame(ManifestNode node, Map<IElementDescriptor, ManifestNode> children) {
+				this.node = node;
+				this.children = children;
+			}
+		}
+
+		private final IJavaProject fProject;
+		private final ProjectApiDescription fDescription;
+		private final List<Frame> fStack = new ArrayList<>();
+
+		DescriptionHandler(IJavaProject project, ProjectApiDescription description) {
+			fProject = project;
+			fDescription = description;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			try {
+				if (fStack.isEmpty()) {
+					startComponent(qName, attributes);
+				} else {
+					startChild(qName, attributes);
+				}
+			} catch (CoreException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		private void startComponent(String name, Attributes attributes) throws CoreException, SAXException {
+			if (!name.equals(IApiXmlConstants.ELEMENT_COMPONENT)) {
+				abort(ScannerMessages.ComponentXMLScanner_0, null);
+			}
+			String version = attributes.getValue(IApiXmlConstants.ATTR_VERSION);
+			fDescription.setEmbeddedVersion(version);
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				throw new OutdatedDescriptionException();
+			}
+			fDescription.fPackageTimeStamp = getLong(attributes, IApiXmlConstants.ATTR_MODIFICATION_STAMP);
+			fDescription.fManifestFile = fProject.getProject().getFile(JarFile.MANIFEST_NAME);
+			fStack.add(new Frame(null, fDescription.fPackageMap));
+		}
+
+		private void startChild(String name, Attributes attributes) throws CoreException {
+			Frame parent = fStack.get(fStack.size() - 1);
+			if (name.equals(IApiXmlConstants.ELEMENT_PACKAGE_FRAGMENT)) {
+				if (parent.fragments != null) {
+					String handle = getString(attributes, IApiXmlConstants.ATTR_HANDLE);
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+					}
+					parent.packageName = je.getElementName();
+					parent.fragments.add(je);
+				}
+				// nothing else to do
+				fStack.add(new Frame(null, null));
+				return;
+			}
+			createPackageNode(parent);
+			int vis = getInt(attributes, IApiXmlConstants.ATTR_VISIBILITY);
+			int res = getInt(attributes, IApiXmlConstants.ATTR_RESTRICTIONS);
+			ManifestNode parentNode = parent.node;
+			ManifestNode node = null;
+			IElementDescriptor elementDesc = null;
+			switch (name) {
+				case IApiXmlConstants.ELEMENT_PACKAGE -> {
+					// the node is created once all fragments are known
+					Frame frame = new Frame(null, null);
+					frame.fragments = new ArrayList<>();
+					frame.visibility = vis;
+					frame.restrictions = res;
+					fStack.add(frame);
+					return;
+				}
+				case IApiXmlConstants.ELEMENT_TYPE -> {
+					String handle = getString(attributes, IApiXmlConstants.ATTR_HANDLE);
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+					}
+					IType type = (IType) je;
+					elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+					TypeNode tn = fDescription.newTypeNode(type, parentNode, elementDesc, vis, res);
+					tn.fTimeStamp = getLong(attributes, IApiXmlConstants.ATTR_MODIFICATION_STAMP);
+					node = tn;
+				}
+				case IApiXmlConstants.ELEMENT_FIELD -> {
+					if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+						elementDesc = type.getField(getString(attributes, IApiXmlConstants.ATTR_NAME));
+						node = fDescription.newNode(parentNode, elementDesc, vis, res);
+					}
+				}
+				case IApiXmlConstants.ELEMENT_METHOD -> {
+					if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+						String sig = getString(attributes, IApiXmlConstants.ATTR_SIGNATURE);
+						if (sig.indexOf('.') != -1) {
+							// old files might use '.' instead of '/'
+							sig = sig.replace('.', '/');
+						}
+						elementDesc = type.getMethod(getString(attributes, IApiXmlConstants.ATTR_NAME), sig);
+						node = fDescription.newNode(parentNode, elementDesc, vis, res);
+					}
+				}
+				default -> { /**/ }
+			}
+			if (node == null) {
+				abort(ScannerMessages.ApiDescriptionManager_4, null);
+			}
+			parent.children.put(elementDesc, node);
+			fStack.add(new Frame(node, node.children));
+		}
+
+		/**
+		 * Creates the node of the given package frame if it has not been
+		 * created yet, i.e. once the first child that is not a fragment is
+		 * found or the package element ends
+		 */
+		private void createPackageNode(Frame frame) throws CoreException {
+			if (frame.fragments == null) {
+				return;
+			}
+			if (frame.fragments.isEmpty()) {
+				abort(ScannerMessages.ApiDescriptionManager_2, null);
+			}
+			IElementDescriptor elementDesc = Factory.packageDescriptor(frame.packageName);
+			ManifestNode node = fDescription.newPackageNode(frame.fragments.toArray(new IPackageFragment[frame.fragments.size()]), null, elementDesc, frame.visibility, frame.restrictions);
+			fStack.get(fStack.size() - 2).children.put(elementDesc, node);
+			frame.node = node;
+			frame.children = node.children;
+			frame.fragments = null;
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			try {
+				createPackageNode(fStack.get(fStack.size() - 1));
+			} catch (CoreException e) {
+				throw new SAXException(e);
+			}
+			fStack.remove(fStack.size() - 1);
+		}
+	}
+
+	/**
+	 * Returns a string attribute, like {@link Element#getAttribute(String)} an
+	 * empty string if the attribute is not set.
+	 *
+	 * @param attributes attributes of the element
+	 * @param attr attribute name
+	 * @return attribute value or an empty string
+	 */
+	private static String getString(Attributes attributes, String attr) {
+		String attribute = attributes.getValue(attr);
+		return attribute == null ? Util.EMPTY_STRING : attribute;
+	}
+
+	/**
+	 * Returns an integer attribute.
+	 *
+	 * @param attributes attributes of the element
+	 * @param attr attribute name
+	 * @return attribute value as an integer
+	 */
+	private static int getInt(Attributes attributes, String attr) {
+		String attribute = attributes.getValue(attr);
+		if (attribute != null) {
+			try {
+				return Integer.parseInt(attribute);
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns a long attribute.
+	 *
+	 * @param attributes attributes of the element
+	 * @param attr attribute name
+	 * @return attribute value as an long
+	 */
+	private static long getLong(Attributes attributes, String attr) {
+		String attribute = attributes.getValue(attr);
+		if (attribute != null) {
+			try {
+				return Long.parseLong(attribute);
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return 0L;
+	}
+
 	/**
 	 * Returns an integer attribute.
 	 *
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A size-bounded cache that can be read and updated concurrently without a
+ * global monitor.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}. Every entry carries a weight
+ * (computed once by the given weigher when the entry is added) and an access
+ * stamp taken from a shared logical clock. When the total weight exceeds the
+ * configured limit, one thread at a time evicts the least recently used entries
+ * until the cache is back under its limit minus the overflow. Threads that find
+ * an eviction in progress simply continue, so readers and writers never block
+ * on each other.
+ * </p>
+ * <p>
+ * The cache collects hit, miss and eviction counts, see {@link #getStatistics()}.
+ * </p>
+ *
+ * @see SynchronizedOverflowingLRUCache for the monitor based alternative
+ */
+public class ConcurrentWeightedCache<K, V> {
+
+	/**
+	 * Immutable snapshot of the counters of a {@link ConcurrentWeightedCache}
+	 *
+	 * @param hits number of lookups that found an entry
+	 * @param misses number of lookups that found no entry
+	 * @param evictions number of entries removed to stay within the weight
+	 *            limit
+	 * @param size current number of entries
+	 * @param weight current total weight of all entries
+	 */
+	public record Statistics(long hits, long misses, long evictions, int size, long weight) {
+
+		/**
+		 * @return the ratio of hits to all lookups, or <code>0</code> if no
+		 *         lookup happened yet
+		 */
+		public double hitRatio() {
+			long total = hits + misses;
+			return total == 0 ? 0 : (double) hits / total;
+		}
+	}
+
+	/**
+	 * A value held in the cache along with its weight and last access stamp
+	 */
+	private static final class Entry<V> {
+		final V value;
+		final int weight;
+		volatile long stamp;
+
+		Entry(V value, int weight, long stamp) {
+			this.value = value;
+			this.weight = weight;
+			this.stamp = stamp;
+		}
+	}
+
+	private final ConcurrentHashMap<K, Entry<V>> fEntries = new ConcurrentHashMap<>();
+	private final ToIntFunction<? super V> fWeigher;
+	private final long fWeightLimit;
+	private final long fOverflow;
+	private final AtomicLong fClock = new AtomicLong();
+	private final AtomicLong fWeight = new AtomicLong();
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Creates a cache in which every entry has a weight of <code>1</code>,
+	 * i.e. the limit is the number of entries.
+	 *
+	 * @param size the maximum number of entries
+	 * @param overflow the number of entries removed in addition to the ones
+	 *            exceeding the limit once an eviction is needed
+	 */
+	public ConcurrentWeightedCache(int size, int overflow) {
+		this(size, overflow, value -> 1);
+	}
+
+	/**
+	 * Creates a cache bounded by the total weight of its entries
+	 *
+	 * @param weightLimit the maximum total weight
+	 * @param overflow the weight removed in addition to the weight exceeding
+	 *            the limit once an eviction is needed
+	 * @param weigher computes the weight of a value, negative results are
+	 *            treated as <code>0</code>
+	 */
+	public ConcurrentWeightedCache(long weightLimit, long overflow, ToIntFunction<? super V> weigher) {
+		fWeightLimit = Math.max(1, weightLimit);
+		fOverflow = Math.max(0, Math.min(overflow, fWeightLimit - 1));
+		fWeigher = weigher;
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as recently used
+	 *
+	 * @param key the key to look up
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Entry<V> entry = fEntries.get(key);
+		if (entry == null) {
+			fMisses.increment();
+			return null;
+		}
+		fHits.increment();
+		entry.stamp = fClock.incrementAndGet();
+		return entry.value;
+	}
+
+	/**
+	 * Caches the given value, replacing any value previously cached for the
+	 * key
+	 *
+	 * @param key the key
+	 * @param value the value, must not be <code>null</code>
+	 * @return the previously cached value or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Entry<V> entry = new Entry<>(value, Math.max(0, fWeigher.applyAsInt(value)), fClock.incrementAndGet());
+		Entry<V> old = fEntries.put(key, entry);
+		long delta = entry.weight;
+		if (old != null) {
+			delta -= old.weight;
+		}
+		if (fWeight.addAndGet(delta) > fWeightLimit) {
+			evict();
+		}
+		return old == null ? null : old.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it if
+	 * there is none. The computation may happen more than once if several
+	 * threads ask for the same missing key at the same time, but only one of
+	 * the results is kept.
+	 *
+	 * @param key the key
+	 * @param loader computes the value, may return <code>null</code> in which
+	 *            case nothing is cached
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		value = loader.apply(key);
+		if (value == null) {
+			return null;
+		}
+		Entry<V> entry = new Entry<>(value, Math.max(0, fWeigher.applyAsInt(value)), fClock.incrementAndGet());
+		Entry<V> existing = fEntries.putIfAbsent(key, entry);
+		if (existing != null) {
+			return existing.value;
+		}
+		if (fWeight.addAndGet(entry.weight) > fWeightLimit) {
+			evict();
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the value cached for the given key
+	 *
+	 * @param key the key
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Entry<V> old = fEntries.remove(key);
+		if (old == null) {
+			return null;
+		}
+		fWeight.addAndGet(-old.weight);
+		return old.value;
+	}
+
+	/**
+	 * Removes all entries. The statistic counters are kept.
+	 */
+	public void flush() {
+		for (K key : new ArrayList<>(fEntries.keySet())) {
+			remove(key);
+		}
+	}
+
+	/**
+	 * Returns if the cache has any elements in it or not
+	 *
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * @return the current number of entries
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the current total weight of all entries
+	 */
+	public long getWeight() {
+		return fWeight.get();
+	}
+
+	/**
+	 * @return snapshot of the keys in the cache.
+	 */
+	public List<K> keysSnapshot() {
+		return new ArrayList<>(fEntries.keySet());
+	}
+
+	/**
+	 * @return snapshot of the elements in the cache.
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>(fEntries.size());
+		for (Entry<V> entry : fEntries.values()) {
+			values.add(entry.value);
+		}
+		return values;
+	}
+
+	/**
+	 * @return a snapshot of the hit, miss and eviction counters
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(fHits.sum(), fMisses.sum(), fEvictions.sum(), fEntries.size(), fWeight.get());
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public void resetStatistics() {
+		fHits.reset();
+		fMisses.reset();
+		fEvictions.reset();
+	}
+
+	/**
+	 * Evicts the least recently used entries until the total weight is below
+	 * the limit minus the overflow. Only one thread evicts at a time, other
+	 * threads return immediately and leave the work to it.
+	 */
+	private void evict() {
+		if (!fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			long target = fWeightLimit - fOverflow;
+			if (fWeight.get() <= target) {
+				return;
+			}
+			List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(fEntries.entrySet());
+			candidates.sort(Comparator.comparingLong(e -> e.getValue().stamp));
+			for (Map.Entry<K, Entry<V>> candidate : candidates) {
+				if (fWeight.get() <= target) {
+					break;
+				}
+				// only remove the exact entry we looked at, it may have been
+				// replaced concurrently by a fresh one
+				if (fEntries.remove(candidate.getKey(), candidate.getValue())) {
+					fWeight.addAndGet(-candidate.getValue().weight);
+					fEvictions.increment();
+					evicted(candidate.getKey(), candidate.getValue().value);
+				}
+			}
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Called after the given entry has been evicted to keep the cache within
+	 * its weight limit. Not called for entries removed explicitly.
+	 * Subclasses may override, the default implementation does nothing.
+	 *
+	 * @param key the key of the evicted entry
+	 * @param value the evicted value
+	 */
+	protected void evicted(K key, V value) {
+		// nothing by default
+	}
+
+	@Override
+	public String toString() {
+		Statistics stats = getStatistics();
+		return "ConcurrentWeightedCache [size=" + stats.size() + ", weight=" + stats.weight() + "/" + fWeightLimit //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", hits=" + stats.hits() + ", misses=" + stats.misses() + ", evictions=" + stats.evictions() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,8 @@ import java.util.zip.ZipFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache.CachedFilter;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFilter;
@@ -143,8 +145,15 @@ public class FilterStore implements IApiFilterStore {
 			InputStream filterstream = null;
 			File loc = new File(fComponent.getLocation());
 			String extension = IPath.fromOSString(loc.getName()).getFileExtension();
+			ApiDescriptionCache cache = null;
+			String key = null;
 			try {
 				if (extension != null && extension.equals("jar") && loc.isFile()) { //$NON-NLS-1$
+					cache = ApiDescriptionCache.getDefault();
+					key = cache != null ? fComponent.getDescriptionCacheKey(cache) : null;
+					if (key != null && restoreFilters(cache.readFilters(key))) {
+						return;
+					}
 					jarFile = new ZipFile(loc, ZipFile.OPEN_READ);
 					ZipEntry filterfile = jarFile.getEntry(IApiCoreConstants.API_FILTERS_XML_NAME);
 					if (filterfile != null) {
@@ -162,11 +171,12 @@ public class FilterStore implements IApiFilterStore {
 						filterstream = new FileInputStream(file);
 					}
 				}
-				if (filterstream == null) {
-					return;
+				if (filterstream != null) {
+					readFilterFile(filterstream);
+				}
+				if (key != null) {
+					cache.writeFilters(key, getCachedFilters());
 				}
-				readFilterFile(filterstream);
-
 			} catch (IOException e) {
 				ApiPlugin.log(e);
 			} finally {
@@ -175,6 +185,42 @@ public class FilterStore implements IApiFilterStore {
 		}
 	}
 
+	/**
+	 * Adds the given filters restored from the {@link ApiDescriptionCache}
+	 *
+	 * @param filters the cached filters or <code>null</code>
+	 * @return whether the filters were restored
+	 */
+	private boolean restoreFilters(List<CachedFilter> filters) {
+		if (filters == null) {
+			return false;
+		}
+		IApiProblem[] problems = new IApiProblem[filters.size()];
+		String[] comments = new String[filters.size()];
+		for (int i = 0; i < problems.length; i++) {
+			problems[i] = filters.get(i).toProblem();
+			comments[i] = filters.get(i).comment();
+		}
+		internalAddFilters(problems, comments);
+		return true;
+	}
+
+	/**
+	 * @return the filters of this store to keep in the
+	 *         {@link ApiDescriptionCache}
+	 */
+	private List<CachedFilter> getCachedFilters() {
+		Set<IApiProblemFilter> filters = fFilterMap.get(GLOBAL);
+		if (filters == null) {
+			return Collections.emptyList();
+		}
+		List<CachedFilter> cached = new ArrayList<>(filters.size());
+		for (IApiProblemFilter filter : filters) {
+			cached.add(CachedFilter.of(filter.getUnderlyingProblem(), filter.getComment()));
+		}
+		return cached;
+	}
+
 	@Override
 	public boolean isFiltered(IApiProblem problem) {
 		initializeApiFilters();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,6 +24,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarFile;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -134,6 +140,20 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistXML(XMLStreamWriter writer) throws XMLStreamException {
+			if (hasApiVisibility(this)) {
+				writer.writeStartElement(IApiXmlConstants.ELEMENT_PACKAGE);
+				writer.writeAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(this.visibility));
+				for (IPackageFragment fFragment : fFragments) {
+					writer.writeEmptyElement(IApiXmlConstants.ELEMENT_PACKAGE_FRAGMENT);
+					writer.writeAttribute(IApiXmlConstants.ATTR_HANDLE, fFragment.getHandleIdentifier());
+				}
+				persistChildren(writer, children);
+				writer.writeEndElement();
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -312,6 +332,18 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistXML(XMLStreamWriter writer) throws XMLStreamException {
+			if (hasApiVisibility(this)) {
+				writer.writeStartElement(IApiXmlConstants.ELEMENT_TYPE);
+				writer.writeAttribute(IApiXmlConstants.ATTR_HANDLE, fType.getHandleIdentifier());
+				persistAnnotations(writer);
+				writer.writeAttribute(IApiXmlConstants.ATTR_MODIFICATION_STAMP, Long.toString(fTimeStamp));
+				persistChildren(writer, children);
+				writer.writeEndElement();
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -664,6 +696,49 @@ public class ProjectApiDescription extends ApiDescription {
 		}
 	}
 
+	/**
+	 * Writes this API description as XML to the given stream. The XML is the
+	 * same as the one of {@link #getXML()}, but it is written while the nodes
+	 * are visited instead of being built as a document first. The stream is
+	 * not closed.
+	 *
+	 * @param out the stream to write to
+	 * @throws CoreException if the description cannot be written
+	 */
+	public synchronized void writeXML(OutputStream out) throws CoreException {
+		try {
+			XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+			try {
+				writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+				writer.writeStartElement(IApiXmlConstants.ELEMENT_COMPONENT);
+				writer.writeAttribute(IApiXmlConstants.ATTR_ID, getJavaProject().getElementName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MODIFICATION_STAMP, Long.toString(fPackageTimeStamp));
+				writer.writeAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+				persistChildren(writer, fPackageMap);
+				writer.writeEndElement();
+				writer.writeEndDocument();
+				writer.flush();
+			} finally {
+				writer.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new CoreException(Status.error("Unable to write API description of " + getJavaProject().getElementName(), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the elements in the given map to the given XML stream as children
+	 * of the element currently written.
+	 *
+	 * @param writer the XML stream
+	 * @param elementMap elements to persist
+	 */
+	void persistChildren(XMLStreamWriter writer, Map<IElementDescriptor, ManifestNode> elementMap) throws XMLStreamException {
+		for (ManifestNode node : elementMap.values()) {
+			node.persistXML(writer);
+		}
+	}
+
 	/**
 	 * Cleans this API description so it will be re-populated with fresh data.
 	 */
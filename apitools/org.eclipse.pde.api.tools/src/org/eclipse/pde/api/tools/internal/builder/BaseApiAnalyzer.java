@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -262,7 +262,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 							reference.getSymbolicName(), baseline.getName() }));
 					if (bcontext.hasTypes()) {
 						String[] changedtypes = bcontext.getStructurallyChangedTypes();
-						checkCompatibility(changedtypes, reference, component, localMonitor.split(1));
+						checkCompatibility(changedtypes, bcontext, reference, component, localMonitor.split(1));
 					} else {
 						// store re-exported bundle into the build state
 						checkCompatibility(reference, component, localMonitor.split(1));
@@ -607,16 +607,25 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * Checks the compatibility of each type.
 	 *
 	 * @param changedtypes type names, may have <code>null</code> entries
+	 * @param context the current build context
 	 * @param reference API component in the reference baseline
 	 * @param component API component being checked for compatibility
 	 */
-	private void checkCompatibility(String[] changedtypes, IApiComponent reference, IApiComponent component, SubMonitor localMonitor) throws CoreException {
+	private void checkCompatibility(String[] changedtypes, IBuildContext context, IApiComponent reference, IApiComponent component, SubMonitor localMonitor) throws CoreException {
 		localMonitor.setWorkRemaining(changedtypes.length);
 		for (String changedtype : changedtypes) {
 			if (changedtype == null) {
 				continue;
 			}
-			checkCompatibility(changedtype, reference, component, localMonitor.split(1));
+			if (context instanceof BuildContext buildContext && buildContext.containsApiUnchangedType(changedtype)) {
+				// same API as in the last analysis, which found no deltas
+				localMonitor.split(1);
+				continue;
+			}
+			if (checkCompatibility(changedtype, reference, component, localMonitor.split(1)) && context instanceof BuildContext buildContext) {
+				// only remember the API that has actually been analyzed
+				buildContext.commitApiHash(changedtype, fBuildState);
+			}
 		}
 	}
 
@@ -1301,8 +1310,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * Compares the given type between the two API components
 	 *
 	 * @param typeName the type to check in each component
+	 * @return <code>true</code> if the type was analyzed, <code>false</code> if
+	 *         the comparison failed
 	 */
-	private void checkCompatibility(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+	private boolean checkCompatibility(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
 		String id = component.getSymbolicName();
 		if (ApiPlugin.DEBUG_API_ANALYZER) {
 			System.out.println("comparing components [" + reference.getSymbolicName() + "] and [" + id + "] for type [" + typeName + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
@@ -1315,6 +1326,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
 		IDelta delta = null;
+		boolean compared = true;
 		IApiComponent provider = null;
 		boolean reexported = false;
 		if (classFile == null) {
@@ -1358,7 +1370,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				try {
 					IApiType type = referenceClassFile.getStructure();
 					if (type == null) {
-						return;
+						return true;
 					}
 					final IApiDescription referenceApiDescription = reference.getApiDescription();
 					IApiAnnotations elementDescription = referenceApiDescription.resolveAnnotations(type.getHandle());
@@ -1374,7 +1386,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 						// if the visibility is API, we only consider public
 						// and protected types
 						if (Util.isDefault(type.getModifiers()) || Flags.isPrivate(type.getModifiers())) {
-							return;
+							return true;
 						}
 						if (VisibilityModifiers.isAPI(visibility)) {
 							String deltaComponentID = Util.getDeltaComponentVersionsId(reference);
@@ -1391,12 +1403,14 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} else {
 			fBuildState.cleanup(typeName);
 			long time = System.currentTimeMillis();
+			compared = false;
 			try {
 				IApiComponent exporter = null;
 				if (reexported) {
 					exporter = component;
 				}
 				delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, subMonitor.split(1));
+				compared = true;
 			} catch (OperationCanceledException oce) {
 				// do nothing, but don't forward it
 				// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
@@ -1413,7 +1427,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 		}
 		if (delta == null) {
-			return;
+			return compared;
 		}
 		if (delta != ApiComparator.NO_DELTA) {
 			List<IDelta> allDeltas = Util.collectAllDeltas(delta);
@@ -1432,6 +1446,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				}
 			}
 		}
+		return true;
 	}
 
 	/**
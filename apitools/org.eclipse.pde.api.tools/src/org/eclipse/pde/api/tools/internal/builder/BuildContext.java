@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.builder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.jdt.internal.core.builder.StringSet;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IBuildContext;
 
@@ -29,6 +32,8 @@ public class BuildContext implements IBuildContext {
 	private StringSet removedTypes = null;
 	private StringSet descriptionChanges = null;
 	private StringSet descriptionDepedents = null;
+	private StringSet apiUnchangedTypes = null;
+	private Map<String, Long> apiHashes = null;
 
 	/**
 	 * Constructor
@@ -142,6 +147,78 @@ public class BuildContext implements IBuildContext {
 		this.descriptionDepedents.add(typename.replace('/', '.'));
 	}
 
+	/**
+	 * Adds the given type name to the collection of structurally changed types
+	 * whose API signature is the same as when they were last analyzed, and
+	 * that therefore do not need to be checked for compatibility again. Does
+	 * nothing if <code>null</code> is passed in as the type name.
+	 *
+	 * @param typename the type whose API did not change
+	 */
+	public void recordApiUnchangedType(String typename) {
+		if (typename == null) {
+			return;
+		}
+		if (this.apiUnchangedTypes == null) {
+			this.apiUnchangedTypes = new StringSet(16);
+		}
+		this.apiUnchangedTypes.add(typename.replace('/', '.'));
+	}
+
+	/**
+	 * Returns if the given type was recorded with
+	 * {@link #recordApiUnchangedType(String)}
+	 *
+	 * @param typename the type name to look up
+	 * @return <code>true</code> if the API of the type did not change,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean containsApiUnchangedType(String typename) {
+		if (typename == null) {
+			return false;
+		}
+		return apiUnchangedTypes != null && apiUnchangedTypes.includes(typename.replace('/', '.'));
+	}
+
+	/**
+	 * Records the API signature hash of a structurally changed type, to be
+	 * stored in the build state once the compatibility of the type has been
+	 * analyzed, see {@link #commitApiHash(String, BuildState)}. Does nothing
+	 * if <code>null</code> is passed in as the type name.
+	 *
+	 * @param typename the type the hash was computed for
+	 * @param hash the hash computed by
+	 *            {@link BuildState#computeApiHash(org.eclipse.pde.api.tools.internal.provisional.model.IApiType)}
+	 */
+	public void recordApiHash(String typename, long hash) {
+		if (typename == null) {
+			return;
+		}
+		if (this.apiHashes == null) {
+			this.apiHashes = new HashMap<>();
+		}
+		this.apiHashes.put(typename.replace('/', '.'), Long.valueOf(hash));
+	}
+
+	/**
+	 * Stores the API signature hash recorded for the given type with
+	 * {@link #recordApiHash(String, long)} in the given build state. Has to be
+	 * called only after the compatibility of the type has been analyzed, since
+	 * a stored hash lets later builds skip the analysis.
+	 *
+	 * @param typename the analyzed type
+	 * @param state the build state to store the hash in
+	 */
+	public void commitApiHash(String typename, BuildState state) {
+		if (typename == null || this.apiHashes == null || state == null) {
+			return;
+		}
+		Long hash = this.apiHashes.remove(typename.replace('/', '.'));
+		if (hash != null) {
+			state.setApiHash(typename.replace('/', '.'), hash.longValue());
+		}
+	}
+
 	@Override
 	public void dispose() {
 		if (this.structualChanges != null) {
@@ -160,6 +237,14 @@ public class BuildContext implements IBuildContext {
 			this.descriptionDepedents.clear();
 			this.descriptionDepedents = null;
 		}
+		if (this.apiUnchangedTypes != null) {
+			this.apiUnchangedTypes.clear();
+			this.apiUnchangedTypes = null;
+		}
+		if (this.apiHashes != null) {
+			this.apiHashes.clear();
+			this.apiHashes = null;
+		}
 	}
 
 	@Override
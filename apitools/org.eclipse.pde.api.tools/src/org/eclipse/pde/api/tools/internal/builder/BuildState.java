@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +42,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -47,6 +53,8 @@ import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.build.IBuildModel;
@@ -59,7 +67,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,15 +86,21 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of type names to the hash of their API signature, see
+	 * {@link #computeApiHash(IApiType)}
+	 */
+	private final Map<String, Long> apiHashes;
 
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
+		this.apiHashes = new HashMap<>();
 	}
 
 	/**
@@ -155,6 +169,12 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				count = in.readInt();
+				// read the API signature hashes
+				for (int i = 0; i < count; i++) {
+					String typeName = in.readUTF();
+					state.setApiHash(typeName, in.readLong());
+				}
 			}
 			return state;
 		}
@@ -210,6 +230,11 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		out.writeInt(state.apiHashes.size());
+		for (Entry<String, Long> hash : state.apiHashes.entrySet()) {
+			out.writeUTF(hash.getKey());
+			out.writeLong(hash.getValue().longValue());
+		}
 	}
 
 	/**
@@ -373,6 +398,49 @@ public class BuildState {
 		this.reexportedComponents = null;
 	}
 
+	/**
+	 * Returns if compatible or breaking changes are recorded for the given
+	 * type name.
+	 *
+	 * @param typeName the given type name
+	 * @return <code>true</code> if there are recorded changes for the type,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean hasChanges(String typeName) {
+		return this.breakingChanges.containsKey(typeName) || this.compatibleChanges.containsKey(typeName);
+	}
+
+	/**
+	 * Returns the hash of the API signature of the given type as it was when
+	 * the type was last analyzed, or -1 if unknown.
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @return the API signature hash or -1
+	 */
+	public long getApiHash(String typeName) {
+		Long hash = this.apiHashes.get(typeName);
+		return hash == null ? -1L : hash.longValue();
+	}
+
+	/**
+	 * Sets the hash of the API signature of the given type.
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @param hash the hash computed by {@link #computeApiHash(IApiType)}
+	 */
+	public void setApiHash(String typeName, long hash) {
+		this.apiHashes.put(typeName, Long.valueOf(hash));
+	}
+
+	/**
+	 * Forgets the API signature hash of the given type.
+	 *
+	 * @param typeName the fully qualified name of the type
+	 */
+	public void removeApiHash(String typeName) {
+		this.apiHashes.remove(typeName);
+	}
+
 	/**
 	 * Sets the current list if re-exported {@link IApiComponent}s for this
 	 * build state
@@ -522,6 +590,68 @@ public class BuildState {
 		buildpathCRC = crc32;
 	}
 
+	/**
+	 * Computes a hash of the API signature of the given type structure. The
+	 * hash covers the type's modifiers, generic signature, super types and all
+	 * non-private, non-synthetic fields and methods, but none of the method
+	 * bodies. It therefore stays the same when only comments or
+	 * implementations of a type change.
+	 *
+	 * @param type the type structure, as built by the
+	 *            {@link org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder}
+	 * @return the API signature hash
+	 */
+	public static long computeApiHash(IApiType type) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		update(digest, type.getName());
+		update(digest, Integer.toString(type.getModifiers()));
+		update(digest, type.getGenericSignature());
+		update(digest, type.getSuperclassName());
+		String[] interfaces = type.getSuperInterfaceNames();
+		if (interfaces != null) {
+			for (String name : interfaces) {
+				update(digest, name);
+			}
+		}
+		String[] fields = Arrays.stream(type.getFields()).filter(BuildState::isApiMember).map(field -> {
+			Object value = field.getConstantValue();
+			return field.getName() + ' ' + field.getModifiers() + ' ' + field.getSignature() + ' ' + field.getGenericSignature() + ' ' + (value == null ? null : value.getClass().getName() + ':' + value);
+		}).sorted().toArray(String[]::new);
+		for (String field : fields) {
+			update(digest, field);
+		}
+		String[] methods = Arrays.stream(type.getMethods()).filter(BuildState::isApiMember).map(method -> {
+			String[] exceptions = method.getExceptionNames();
+			return method.getName() + ' ' + method.getModifiers() + ' ' + method.getSignature() + ' ' + method.getGenericSignature() + ' ' + method.getDefaultValue() + ' ' + (exceptions == null ? null : Arrays.toString(exceptions));
+		}).sorted().toArray(String[]::new);
+		for (String method : methods) {
+			update(digest, method);
+		}
+		return ByteBuffer.wrap(digest.digest()).getLong();
+	}
+
+	/**
+	 * @return <code>true</code> if the given member can contribute to the API
+	 *         of its type, <code>false</code> otherwise
+	 */
+	private static boolean isApiMember(IApiMember member) {
+		int modifiers = member.getModifiers();
+		return !Flags.isPrivate(modifiers) && !Flags.isSynthetic(modifiers);
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		// separator, also used for null values
+		digest.update((byte) 0);
+	}
+
 	/**
 	 * Return the last built state for the given project, or null if none
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@ package org.eclipse.pde.api.tools.internal.builder;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -47,6 +49,8 @@ import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiMarkerConstants;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.osgi.framework.Version;
@@ -58,6 +62,15 @@ import org.osgi.framework.Version;
  */
 public class IncrementalApiBuilder {
 
+	/**
+	 * System property to disable skipping the compatibility analysis and the
+	 * dependents of types whose API signature did not change since they were
+	 * last analyzed. Defaults to <code>true</code>.
+	 */
+	public static final String API_HASH_PROPERTY = "org.eclipse.pde.api.tools.apiHash"; //$NON-NLS-1$
+
+	static final boolean API_HASH = Boolean.parseBoolean(System.getProperty(API_HASH_PROPERTY, Boolean.TRUE.toString()));
+
 	private static final int UNKNOWN = 0;
 	private static final int CLASS_FILE = 1;
 	private static final int JAVA__FILE = 2;
@@ -234,7 +247,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			buildContext(project, state, buildstate, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -373,16 +386,22 @@ public class IncrementalApiBuilder {
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
 	 * @param list of changes
 	 */
-	void buildContext(final IProject project, State state, List<Change> changes, HashSet<IProject> depprojects) {
+	void buildContext(final IProject project, State state, BuildState buildstate, List<Change> changes, HashSet<IProject> depprojects) {
 		StringSet structural = null;
 		StringSet description = null;
 		for (Change change : changes) {
 			boolean contained = change.isContained(project, depprojects);
+			String[] unchanged = null;
+			if (contained) {
+				unchanged = getApiUnchangedTypes(change, buildstate);
+			}
 			if ((change.changeKind & STRUCTURAL) > 0) {
-				// don't analyze dependents of removed types
-				if (change.deltaKind != IResourceDelta.REMOVED) {
+				// don't analyze dependents of removed types or of types whose
+				// API did not change
+				if (change.deltaKind != IResourceDelta.REMOVED && unchanged == null) {
 					if (structural == null) {
 						structural = new StringSet(16);
 					}
@@ -412,6 +431,14 @@ public class IncrementalApiBuilder {
 				if (change.fileKind == JAVA__FILE) {
 					this.builder.cleanupMarkers(change.resource);
 					addInnerTypes(change.resource, change.changeKind);
+					if (unchanged != null && canSkipCompatibility(change.resource, unchanged, buildstate)) {
+						for (String type : unchanged) {
+							if (ApiPlugin.DEBUG_BUILDER) {
+								System.out.println("ApiAnalysisBuilder:   API of " + type + " is unchanged"); //$NON-NLS-1$ //$NON-NLS-2$
+							}
+							context.recordApiUnchangedType(type);
+						}
+					}
 				} else {
 					// look up the source file
 					String path = state.typeLocators.get(change.typeName);
@@ -449,6 +476,129 @@ public class IncrementalApiBuilder {
 		}
 	}
 
+	/**
+	 * Computes the API signature hashes of all types of the compilation unit of
+	 * the given change and records them in the build context, to be stored in
+	 * the given build state once their compatibility has been analyzed. Only source
+	 * changes that are purely structural are considered, since a change of the
+	 * API description or of the build path can change the compatibility of a
+	 * type without changing its class file. The hashes of the types of any
+	 * other change are forgotten, see
+	 * {@link #isApiUnchanged(BuildState, BuildContext, Map, boolean)}.
+	 *
+	 * @param change the change to check
+	 * @param buildstate the current API tools build state
+	 * @return the names of the types of the compilation unit if none of them
+	 *         changed its API signature since it was last analyzed, or
+	 *         <code>null</code>
+	 */
+	private String[] getApiUnchangedTypes(Change change, BuildState buildstate) {
+		if (!API_HASH) {
+			return null;
+		}
+		Map<String, Long> hashes = new LinkedHashMap<>();
+		boolean structural = change.fileKind == JAVA__FILE && change.deltaKind == IResourceDelta.CHANGED && change.changeKind == STRUCTURAL;
+		if (change.fileKind == JAVA__FILE) {
+			IApiComponent component = structural ? this.workspaceBaseline.getApiComponent(change.project) : null;
+			try {
+				ICompilationUnit unit = (ICompilationUnit) JavaCore.create(change.resource);
+				for (IType type : unit.getAllTypes()) {
+					String typename = type.getFullyQualifiedName('$');
+					hashes.put(typename, component == null ? null : computeApiHash(component, typename));
+				}
+			} catch (JavaModelException e) {
+				// the types of the unit are not known, at least forget the
+				// primary type
+				hashes.put(change.typeName.replace('/', '.'), null);
+			}
+		} else {
+			hashes.put(change.typeName.replace('/', '.'), null);
+		}
+		if (!isApiUnchanged(buildstate, this.context, hashes, structural)) {
+			return null;
+		}
+		return hashes.keySet().toArray(new String[hashes.size()]);
+	}
+
+	/**
+	 * @return the API signature hash of the given type of the given component
+	 *         or <code>null</code> if its structure is not available
+	 */
+	private static Long computeApiHash(IApiComponent component, String typename) {
+		try {
+			IApiTypeRoot root = component.findTypeRoot(typename);
+			IApiType structure = root == null ? null : root.getStructure();
+			return structure == null ? null : Long.valueOf(BuildState.computeApiHash(structure));
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns if none of the types of a changed file changed its API signature
+	 * since it was last analyzed, and records their current hashes in the
+	 * given build context. The hashes only reach the build state after the
+	 * compatibility of the types has been analyzed, see
+	 * {@link BuildContext#commitApiHash(String, BuildState)}. The stored hashes
+	 * of all types are forgotten if the change is not purely structural or if
+	 * the hash of a type is unknown, so that a later change back to the
+	 * previously analyzed API is not mistaken for an unchanged API.
+	 *
+	 * @param buildstate the API tools build state
+	 * @param context the build context to record the current hashes in
+	 * @param hashes the current API signature hash of each type of the file,
+	 *            or <code>null</code> if it is not known
+	 * @param structural whether the file changed structurally only, i.e. its
+	 *            API description did not change
+	 * @return <code>true</code> if the types of the file kept their API and
+	 *         their compatibility analysis can be skipped, <code>false</code>
+	 *         otherwise
+	 */
+	public static boolean isApiUnchanged(BuildState buildstate, BuildContext context, Map<String, Long> hashes, boolean structural) {
+		boolean unchanged = structural && !hashes.isEmpty();
+		for (Entry<String, Long> entry : hashes.entrySet()) {
+			String typename = entry.getKey();
+			Long hash = entry.getValue();
+			if (!structural || hash == null) {
+				buildstate.removeApiHash(typename);
+				unchanged = false;
+			} else {
+				if (buildstate.getApiHash(typename) != hash.longValue()) {
+					unchanged = false;
+				}
+				context.recordApiHash(typename, hash.longValue());
+			}
+		}
+		return unchanged;
+	}
+
+	/**
+	 * Returns if the compatibility analysis of the given types, whose API did
+	 * not change, can be skipped. This is only the case if the last analysis
+	 * found no deltas for any of them, and no problem filters are defined on
+	 * their source file, since filters are only marked as used by a new
+	 * analysis.
+	 *
+	 * @param file the source file of the types
+	 * @param types the types whose API did not change
+	 * @param buildstate the current API tools build state
+	 * @return <code>true</code> if the compatibility analysis can be skipped,
+	 *         <code>false</code> otherwise
+	 */
+	private boolean canSkipCompatibility(IFile file, String[] types, BuildState buildstate) {
+		for (String type : types) {
+			if (buildstate.hasChanges(type)) {
+				return false;
+			}
+		}
+		IApiComponent component = this.workspaceBaseline.getApiComponent(file.getProject());
+		try {
+			return component != null && component.getFilterStore().getFilters(file).length == 0;
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Adds the dependent files from the current build context based on the
 	 * current JDT build state to either the structural or description
@@ -529,6 +679,7 @@ public class IncrementalApiBuilder {
 		String[] types = this.context.getRemovedTypes();
 		for (String type : types) {
 			state.cleanup(type);
+			state.removeApiHash(type.replace('/', '.'));
 		}
 		subMonitor.split(1);
 		IResource resource = project.findMember(ApiAnalysisBuilder.MANIFEST_PATH);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,6 @@ import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.Attribute;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Handle;
@@ -1274,8 +1273,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	private Set<Reference> processInnerClass(IApiType type, int refkinds) throws CoreException {
 		HashSet<Reference> refs = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(type, refs, refkinds, this.fieldtracker);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		((AbstractApiTypeRoot) type.getTypeRoot()).accept(extractor);
 		return refs;
 	}
 
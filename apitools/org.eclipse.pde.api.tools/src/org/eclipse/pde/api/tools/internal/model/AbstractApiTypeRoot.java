@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.Set;
 
@@ -22,6 +23,10 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.tree.ClassNode;
 
 /**
  * Common implementation for {@link IApiTypeRoot}
@@ -30,8 +35,22 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
  */
 public abstract class AbstractApiTypeRoot extends ApiElement implements IApiTypeRoot {
 
+	/**
+	 * System property to disable decoding class files of type roots that share
+	 * a single class file scan only once. Defaults to <code>true</code>.
+	 */
+	public static final String SHARED_SCAN_PROPERTY = "org.eclipse.pde.api.tools.sharedClassScan"; //$NON-NLS-1$
+
+	static final boolean SHARED_SCAN = Boolean.parseBoolean(System.getProperty(SHARED_SCAN_PROPERTY, Boolean.TRUE.toString()));
+
 	private IApiType fType;
 
+	/**
+	 * The decoded class file, including code, if this type root shares a
+	 * single class file scan
+	 */
+	private SoftReference<ClassNode> fClassNode;
+
 	/**
 	 * Constructor
 	 *
@@ -59,7 +78,11 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			if (isSharedScan()) {
+				type = TypeStructureBuilder.buildTypeStructure(this, getApiComponent());
+			} else {
+				type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			}
 			if (type == null) {
 				return null;
 			}
@@ -79,6 +102,60 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 		return fType;
 	}
 
+	/**
+	 * Returns if the class file of this type root is decoded only once, with
+	 * code, for its structure as well as for the extraction of its references.
+	 * Subclasses return <code>true</code> if both are usually needed, all
+	 * others only decode the declarations to build the structure.
+	 *
+	 * @return <code>false</code> by default
+	 */
+	protected boolean shareScan() {
+		return false;
+	}
+
+	private boolean isSharedScan() {
+		return SHARED_SCAN && shareScan();
+	}
+
+	/**
+	 * Returns the decoded class file of this type root. It is decoded once,
+	 * with code but without frames, and kept as long as memory permits.
+	 *
+	 * @return the decoded class file
+	 * @throws CoreException if the contents of the class file cannot be read
+	 */
+	synchronized ClassNode getClassNode() throws CoreException {
+		ClassNode node = fClassNode == null ? null : fClassNode.get();
+		if (node == null) {
+			node = new ClassNode(Util.LATEST_OPCODES_ASM);
+			new ClassReader(getContents()).accept(node, ClassReader.SKIP_FRAMES);
+			fClassNode = new SoftReference<>(node);
+		}
+		return node;
+	}
+
+	/**
+	 * Makes the given visitor visit the class file of this type root, including
+	 * code but without frames. Type roots that share a single class file scan
+	 * replay it from the decoded class file, all others decode the contents
+	 * again.
+	 *
+	 * @param visitor the visitor to visit the class file
+	 * @throws CoreException if the contents of the class file cannot be read
+	 */
+	public void accept(ClassVisitor visitor) throws CoreException {
+		if (isSharedScan()) {
+			ClassNode node = getClassNode();
+			// replaying resets the labels of the method nodes
+			synchronized (node) {
+				node.accept(visitor);
+			}
+		} else {
+			new ClassReader(getContents()).accept(visitor, ClassReader.SKIP_FRAMES);
+		}
+	}
+
 	/**
 	 * @see IApiTypeRoot#getApiComponent()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,7 @@ import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.api.tools.internal.AnyValue;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
+import org.eclipse.pde.api.tools.internal.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -133,8 +134,15 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * For each package the cache contains a map of API components that provide that
 	 * package, by source component name (including the <code>null</code> component
 	 * name). This map can be updated on the fly on changes in the workspave.
+	 * The cache is bounded to {@link #PACKAGE_CACHE_SIZE} packages, evicted
+	 * packages are simply resolved again on the next request.
 	 */
-	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
+	private final ApiModelCache.Cache<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
+
+	/**
+	 * Maximum number of packages kept in the resolved packages cache
+	 */
+	static final int PACKAGE_CACHE_SIZE = 8192;
 
 	/**
 	 * Maps component id's to components.
@@ -179,7 +187,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	public ApiBaseline(String name) {
 		super(null, IApiElement.BASELINE, name);
-		fComponentsProvidingPackageCache = new ConcurrentHashMap<>(8);
+		fComponentsProvidingPackageCache = ApiModelCache.newCache(PACKAGE_CACHE_SIZE, PACKAGE_CACHE_SIZE / 10);
 		fSystemLibraryComponentList = new CopyOnWriteArrayList<>();
 		fComponentsById = new ConcurrentHashMap<>();
 		fAllComponentsById = new ConcurrentHashMap<>();
@@ -312,7 +320,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * Clears the package -> components cache
 	 */
 	private void clearComponentsCache() {
-		fComponentsProvidingPackageCache.clear();
+		fComponentsProvidingPackageCache.flush();
 	}
 
 	/**
@@ -720,7 +728,23 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (disposed || restored) {
 			return;
 		}
-		IApiComponent[] components = ApiBaselineManager.getManager().readBaselineComponents(this, stream);
+		restoreComponents(ApiBaselineManager.getManager().readBaselineComponents(this, stream));
+	}
+
+	/**
+	 * Restore a baseline from the given binary snapshot (persisted baseline).
+	 *
+	 * @param snapshot the snapshot to restore from
+	 * @throws CoreException if unable to restore the baseline
+	 */
+	public void restoreFrom(ApiBaselineSnapshot snapshot) throws CoreException {
+		if (disposed || restored) {
+			return;
+		}
+		restoreComponents(snapshot.restore(this));
+	}
+
+	private void restoreComponents(IApiComponent[] components) throws CoreException {
 		if (components == null) {
 			restored = true;
 			return;
@@ -0,0 +1,725 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+
+/**
+ * Persistent cache of the API descriptions and API problem filters of binary
+ * bundle jars.
+ * <p>
+ * Entries are keyed by the symbolic name and version of a bundle and the
+ * SHA-256 digest of its jar, so that a cache folder can be shared between IDE
+ * sessions, headless API analysis runs and machines: a bundle that was already
+ * seen in any of them does not have its packages scanned and its
+ * <code>.api_description</code> and <code>.api_filters</code> files parsed
+ * again. The digest of a jar is itself remembered by jar path, size and last
+ * modification time, so an unchanged jar is only hashed once.
+ * </p>
+ * <p>
+ * The cache is kept in the folder named by the {@value #LOCATION_PROPERTY}
+ * system property, or in the plug-in state location by default. Entries that
+ * have not been used for {@value #MAX_AGE_DAYS} days are pruned once per
+ * session.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ApiDescriptionCache {
+
+	/**
+	 * System property to disable the cache, set to <code>false</code> to always
+	 * read API descriptions and filters from the bundles
+	 */
+	public static final String ENABLED_PROPERTY = "org.eclipse.pde.api.tools.descriptionCache"; //$NON-NLS-1$
+
+	/**
+	 * System property naming the folder to keep the cache in, for example a
+	 * folder shared by the builds of a CI server
+	 */
+	public static final String LOCATION_PROPERTY = "org.eclipse.pde.api.tools.descriptionCache.location"; //$NON-NLS-1$
+
+	static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, Boolean.TRUE.toString()));
+
+	/**
+	 * Version of the cache file format, bump when the format changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Name of the folder the cache is kept in by default
+	 */
+	private static final String CACHE_FOLDER = ".description_cache"; //$NON-NLS-1$
+
+	private static final String DESCRIPTION_EXTENSION = ".desc"; //$NON-NLS-1$
+	private static final String FILTERS_EXTENSION = ".filters"; //$NON-NLS-1$
+	private static final String DIGEST_EXTENSION = ".sha"; //$NON-NLS-1$
+
+	/**
+	 * Number of days after which unused entries are pruned
+	 */
+	static final int MAX_AGE_DAYS = 90;
+
+	private static ApiDescriptionCache fDefault;
+
+	/**
+	 * Digest of a jar, valid as long as the jar has the given size and last
+	 * modification time
+	 */
+	private record Digest(long lastModified, long size, String digest) {
+	}
+
+	private final Path fLocation;
+
+	/**
+	 * Jar path to digest, for the jars hashed or looked up in this session
+	 */
+	private final Map<Path, Digest> fDigests = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether unused entries have been pruned in this session
+	 */
+	private final AtomicBoolean fPruned = new AtomicBoolean();
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the folder to keep the cache in
+	 */
+	public ApiDescriptionCache(Path location) {
+		fLocation = location;
+	}
+
+	/**
+	 * @return the cache kept in the default location, or <code>null</code> if
+	 *         the cache is disabled or there is no location to keep it in
+	 */
+	public static synchronized ApiDescriptionCache getDefault() {
+		if (!ENABLED) {
+			return null;
+		}
+		if (fDefault == null) {
+			Path location = getDefaultLocation();
+			if (location == null) {
+				return null;
+			}
+			fDefault = new ApiDescriptionCache(location);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * @return the folder named by the {@value #LOCATION_PROPERTY} property, the
+	 *         plug-in state location or a temporary folder, or
+	 *         <code>null</code> if there is none
+	 */
+	static Path getDefaultLocation() {
+		String location = System.getProperty(LOCATION_PROPERTY);
+		if (location != null && !location.isBlank()) {
+			return Path.of(location);
+		}
+		try {
+			if (ApiPlugin.isRunningInFramework()) {
+				return ApiPlugin.getDefault().getStateLocation().append(CACHE_FOLDER).toPath();
+			}
+			return Path.of(System.getProperty("java.io.tmpdir"), ApiPlugin.PLUGIN_ID, CACHE_FOLDER); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the key of the cache entries of the given bundle jar.
+	 *
+	 * @param symbolicName the symbolic name of the bundle
+	 * @param version the version of the bundle
+	 * @param jar the bundle jar
+	 * @return the key or <code>null</code> if the bundle is not a jar or the
+	 *         jar cannot be read
+	 */
+	public String getKey(String symbolicName, String version, Path jar) {
+		if (!jar.getFileName().toString().endsWith(".jar")) { //$NON-NLS-1$
+			return null;
+		}
+		if (fPruned.compareAndSet(false, true)) {
+			prune();
+		}
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+			if (!attributes.isRegularFile()) {
+				return null;
+			}
+			String digest = getDigest(jar.toAbsolutePath(), attributes.lastModifiedTime().toMillis(), attributes.size());
+			return symbolicName + '_' + version + '_' + digest;
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Unable to compute the digest of " + jar + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 digest of the given jar, computing it only if the jar
+	 * changed since it was last hashed
+	 */
+	private String getDigest(Path jar, long lastModified, long size) throws IOException {
+		Digest digest = fDigests.get(jar);
+		if (digest != null && digest.lastModified() == lastModified && digest.size() == size) {
+			return digest.digest();
+		}
+		String key = jar.toString();
+		Path file = fLocation.resolve(getFileName(key, DIGEST_EXTENSION));
+		digest = readDigest(file, key);
+		if (digest == null || digest.lastModified() != lastModified || digest.size() != size) {
+			digest = new Digest(lastModified, size, hash(jar));
+			Digest written = digest;
+			write(file, out -> {
+				out.writeUTF(key);
+				out.writeLong(written.lastModified());
+				out.writeLong(written.size());
+				out.writeUTF(written.digest());
+			});
+		}
+		fDigests.put(jar, digest);
+		return digest.digest();
+	}
+
+	private static Digest readDigest(Path file, String key) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != VERSION || !key.equals(in.readUTF())) {
+				return null;
+			}
+			return new Digest(in.readLong(), in.readLong(), in.readUTF());
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static String hash(Path jar) throws IOException {
+		try (InputStream in = Files.newInputStream(jar)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] buffer = new byte[65536];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			return toHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the cached API description of the bundle with the given key.
+	 *
+	 * @param key the key of the bundle
+	 * @return the cached description or <code>null</code> if there is none
+	 */
+	public CachedDescription readDescription(String key) {
+		return read(key, DESCRIPTION_EXTENSION, CachedDescription::read);
+	}
+
+	/**
+	 * Caches the API description of the bundle with the given key.
+	 *
+	 * @param key the key of the bundle
+	 * @param description the description to cache
+	 */
+	public void writeDescription(String key, CachedDescription description) {
+		write(fLocation.resolve(getFileName(key, DESCRIPTION_EXTENSION)), out -> {
+			out.writeUTF(key);
+			description.write(out);
+		});
+	}
+
+	/**
+	 * Returns the cached API problem filters of the bundle with the given key.
+	 *
+	 * @param key the key of the bundle
+	 * @return the cached filters or <code>null</code> if there are none
+	 */
+	public List<CachedFilter> readFilters(String key) {
+		return read(key, FILTERS_EXTENSION, CachedFilter::readAll);
+	}
+
+	/**
+	 * Caches the API problem filters of the bundle with the given key.
+	 *
+	 * @param key the key of the bundle
+	 * @param filters the filters to cache, empty if the bundle has none
+	 */
+	public void writeFilters(String key, List<CachedFilter> filters) {
+		write(fLocation.resolve(getFileName(key, FILTERS_EXTENSION)), out -> {
+			out.writeUTF(key);
+			CachedFilter.writeAll(filters, out);
+		});
+	}
+
+	/**
+	 * Reads the contents of a cache file
+	 */
+	private interface Reader<T> {
+		T read(DataInputStream in) throws IOException;
+	}
+
+	/**
+	 * Writes the contents of a cache file
+	 */
+	private interface Writer {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private <T> T read(String key, String extension, Reader<T> reader) {
+		Path file = fLocation.resolve(getFileName(key, extension));
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			T result;
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+				if (in.readInt() != VERSION || !key.equals(in.readUTF())) {
+					return null;
+				}
+				result = reader.read(in);
+			}
+			// remember that the entry is in use so that it is not pruned
+			FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+			if (now.toMillis() - Files.getLastModifiedTime(file).toMillis() > TimeUnit.DAYS.toMillis(1)) {
+				Files.setLastModifiedTime(file, now);
+			}
+			return result;
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Unable to read cache file " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	private static void write(Path file, Writer writer) {
+		try {
+			Files.createDirectories(file.getParent());
+			Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+					out.writeInt(VERSION);
+					writer.write(out);
+				}
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			// the cache is only an optimization, the bundle is read again next
+			// time
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Unable to write cache file " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Deletes the digests of deleted jars and the entries that have not been
+	 * used for {@value #MAX_AGE_DAYS} days
+	 */
+	void prune() {
+		if (!Files.isDirectory(fLocation)) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+		Set<Path> stale = new HashSet<>();
+		try (Stream<Path> files = Files.list(fLocation)) {
+			files.forEach(f -> {
+				String name = f.getFileName().toString();
+				try {
+					if (name.endsWith(DIGEST_EXTENSION)) {
+						try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(f)))) {
+							if (in.readInt() != VERSION || !Files.exists(Path.of(in.readUTF()))) {
+								stale.add(f);
+							}
+						}
+					} else if (name.endsWith(DESCRIPTION_EXTENSION) || name.endsWith(FILTERS_EXTENSION)) {
+						if (Files.getLastModifiedTime(f).toMillis() < oldest) {
+							stale.add(f);
+						}
+					}
+				} catch (IOException e) {
+					stale.add(f);
+				}
+			});
+			for (Path file : stale) {
+				Files.deleteIfExists(file);
+			}
+		} catch (IOException e) {
+			// ignore, pruning is best effort
+		}
+	}
+
+	private static String getFileName(String key, String extension) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			return toHex(digest) + extension;
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode()) + extension;
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buffer = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return buffer.toString();
+	}
+
+	private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullableUTF(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	/**
+	 * A visibility or restrictions setting of the <code>.api_description</code>
+	 * file of a bundle
+	 *
+	 * @param kind the kind of element, one of the {@link IElementDescriptor}
+	 *            constants
+	 * @param packageName the package of the element
+	 * @param typeName the name of the type or enclosing type of the element,
+	 *            relative to its package
+	 * @param memberName the name of the member or <code>null</code> for a type
+	 * @param signature the signature of the method or <code>null</code>
+	 * @param visibility whether the setting is a visibility rather than
+	 *            restrictions
+	 * @param value the visibility or restrictions
+	 */
+	record Annotation(int kind, String packageName, String typeName, String memberName, String signature, boolean visibility, int value) {
+
+		/**
+		 * @return the annotation of the given element or <code>null</code> if
+		 *         the element is not a type or member
+		 */
+		static Annotation of(IElementDescriptor element, boolean visibility, int value) {
+			switch (element.getElementType()) {
+				case IElementDescriptor.TYPE: {
+					IReferenceTypeDescriptor type = (IReferenceTypeDescriptor) element;
+					String pkg = type.getPackage().getName();
+					return new Annotation(IElementDescriptor.TYPE, pkg, getRelativeName(pkg, type), null, null, visibility, value);
+				}
+				case IElementDescriptor.METHOD: {
+					IMethodDescriptor method = (IMethodDescriptor) element;
+					String pkg = method.getPackage().getName();
+					return new Annotation(IElementDescriptor.METHOD, pkg, getRelativeName(pkg, method.getEnclosingType()), method.getName(), method.getSignature(), visibility, value);
+				}
+				case IElementDescriptor.FIELD: {
+					IFieldDescriptor field = (IFieldDescriptor) element;
+					String pkg = field.getPackage().getName();
+					return new Annotation(IElementDescriptor.FIELD, pkg, getRelativeName(pkg, field.getEnclosingType()), field.getName(), null, visibility, value);
+				}
+				default:
+					return null;
+			}
+		}
+
+		private static String getRelativeName(String pkg, IReferenceTypeDescriptor type) {
+			String name = type.getQualifiedName();
+			return pkg.isEmpty() ? name : name.substring(pkg.length() + 1);
+		}
+
+		/**
+		 * @return the element of this annotation
+		 */
+		IElementDescriptor getElement() {
+			IReferenceTypeDescriptor type = Factory.packageDescriptor(packageName).getType(typeName);
+			switch (kind) {
+				case IElementDescriptor.METHOD:
+					return type.getMethod(memberName, signature);
+				case IElementDescriptor.FIELD:
+					return type.getField(memberName);
+				default:
+					return type;
+			}
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeByte(kind);
+			out.writeUTF(packageName);
+			out.writeUTF(typeName);
+			writeNullableUTF(out, memberName);
+			writeNullableUTF(out, signature);
+			out.writeBoolean(visibility);
+			out.writeInt(value);
+		}
+
+		static Annotation read(DataInputStream in) throws IOException {
+			return new Annotation(in.readByte(), in.readUTF(), in.readUTF(), readNullableUTF(in), readNullableUTF(in), in.readBoolean(), in.readInt());
+		}
+	}
+
+	/**
+	 * The packages of a bundle and the settings of its
+	 * <code>.api_description</code> file, from which the API description of
+	 * the bundle is initialized.
+	 */
+	public static final class CachedDescription {
+
+		private final Set<String> fPackages;
+
+		/**
+		 * The embedded version of the <code>.api_description</code> file or
+		 * <code>null</code> if the bundle has none
+		 */
+		private final String fEmbeddedVersion;
+
+		private final List<Annotation> fAnnotations;
+
+		CachedDescription(Set<String> packages, String embeddedVersion, List<Annotation> annotations) {
+			fPackages = packages;
+			fEmbeddedVersion = embeddedVersion;
+			fAnnotations = annotations;
+		}
+
+		/**
+		 * Creates the description of a bundle.
+		 *
+		 * @param packages the names of the packages originating from the bundle
+		 * @param xml the contents of the <code>.api_description</code> file of
+		 *            the bundle or <code>null</code> if it has none
+		 * @return the description
+		 * @throws CoreException if the <code>.api_description</code> file
+		 *             cannot be parsed
+		 */
+		public static CachedDescription create(Set<String> packages, String xml) throws CoreException {
+			if (xml == null) {
+				return new CachedDescription(packages, null, Collections.emptyList());
+			}
+			RecordingApiDescription recorder = new RecordingApiDescription();
+			ApiDescriptionProcessor.annotateApiSettings(null, recorder, xml);
+			return new CachedDescription(packages, recorder.fVersion, recorder.fAnnotations);
+		}
+
+		/**
+		 * @return the names of the packages originating from the bundle
+		 */
+		public Set<String> getPackages() {
+			return fPackages;
+		}
+
+		/**
+		 * @return whether the bundle has an <code>.api_description</code> file
+		 */
+		public boolean hasApiDescription() {
+			return fEmbeddedVersion != null;
+		}
+
+		/**
+		 * Applies the settings of the <code>.api_description</code> file to
+		 * the given API description, in the same order as parsing the file
+		 * does.
+		 *
+		 * @param description the description to annotate
+		 */
+		public void annotate(IApiDescription description) {
+			if (fEmbeddedVersion == null) {
+				return;
+			}
+			((ApiDescription) description).setEmbeddedVersion(fEmbeddedVersion);
+			for (Annotation annotation : fAnnotations) {
+				IElementDescriptor element = annotation.getElement();
+				if (annotation.visibility()) {
+					description.setVisibility(element, annotation.value());
+				} else {
+					description.setRestrictions(element, annotation.value());
+				}
+			}
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeInt(fPackages.size());
+			for (String pkg : fPackages) {
+				out.writeUTF(pkg);
+			}
+			writeNullableUTF(out, fEmbeddedVersion);
+			out.writeInt(fAnnotations.size());
+			for (Annotation annotation : fAnnotations) {
+				annotation.write(out);
+			}
+		}
+
+		static CachedDescription read(DataInputStream in) throws IOException {
+			int count = in.readInt();
+			Set<String> packages = new HashSet<>(count);
+			for (int i = 0; i < count; i++) {
+				packages.add(in.readUTF());
+			}
+			String version = readNullableUTF(in);
+			count = in.readInt();
+			List<Annotation> annotations = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				annotations.add(Annotation.read(in));
+			}
+			return new CachedDescription(packages, version, annotations);
+		}
+	}
+
+	/**
+	 * Records the settings an <code>.api_description</code> file applies
+	 * instead of building the description
+	 */
+	private static final class RecordingApiDescription extends ApiDescription {
+
+		String fVersion;
+		final List<Annotation> fAnnotations = new ArrayList<>();
+
+		RecordingApiDescription() {
+			super(null);
+		}
+
+		@Override
+		public void setEmbeddedVersion(String version) {
+			super.setEmbeddedVersion(version);
+			fVersion = version;
+		}
+
+		@Override
+		public IStatus setVisibility(IElementDescriptor element, int visibility) {
+			return record(Annotation.of(element, true, visibility));
+		}
+
+		@Override
+		public IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+			return record(Annotation.of(element, false, restrictions));
+		}
+
+		private IStatus record(Annotation annotation) {
+			if (annotation != null) {
+				fAnnotations.add(annotation);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * An API problem filter read from the <code>.api_filters</code> file of a
+	 * bundle
+	 *
+	 * @param id the id of the filtered problem
+	 * @param path the resource path of the problem or <code>null</code>
+	 * @param typeName the type name of the problem or <code>null</code>
+	 * @param arguments the message arguments of the problem or
+	 *            <code>null</code>
+	 * @param comment the comment of the filter or <code>null</code>
+	 */
+	public record CachedFilter(int id, String path, String typeName, String[] arguments, String comment) {
+
+		/**
+		 * @return the filter of the given problem
+		 */
+		public static CachedFilter of(IApiProblem problem, String comment) {
+			return new CachedFilter(problem.getId(), problem.getResourcePath(), problem.getTypeName(), problem.getMessageArguments(), comment);
+		}
+
+		/**
+		 * @return the filtered problem, as created when reading the
+		 *         <code>.api_filters</code> file
+		 */
+		public IApiProblem toProblem() {
+			return ApiProblemFactory.newApiProblem(path, typeName, arguments, null, null, -1, -1, -1, id);
+		}
+
+		static void writeAll(List<CachedFilter> filters, DataOutputStream out) throws IOException {
+			out.writeInt(filters.size());
+			for (CachedFilter filter : filters) {
+				out.writeInt(filter.id());
+				writeNullableUTF(out, filter.path());
+				writeNullableUTF(out, filter.typeName());
+				String[] arguments = filter.arguments();
+				out.writeInt(arguments == null ? -1 : arguments.length);
+				if (arguments != null) {
+					for (String argument : arguments) {
+						out.writeUTF(argument);
+					}
+				}
+				writeNullableUTF(out, filter.comment());
+			}
+		}
+
+		static List<CachedFilter> readAll(DataInputStream in) throws IOException {
+			int count = in.readInt();
+			List<CachedFilter> filters = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int id = in.readInt();
+				String path = readNullableUTF(in);
+				String typeName = readNullableUTF(in);
+				int length = in.readInt();
+				String[] arguments = null;
+				if (length >= 0) {
+					arguments = new String[length];
+					for (int j = 0; j < length; j++) {
+						arguments[j] = in.readUTF();
+					}
+				}
+				filters.add(new CachedFilter(id, path, typeName, arguments, readNullableUTF(in)));
+			}
+			return filters;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,13 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.internal.core.util.LRUCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache;
 import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -31,17 +35,73 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Cache used for {@link IApiElement}s. Depending on the
+	 * {@link #CACHE_MODE_PROPERTY} it is backed by a
+	 * {@link ConcurrentWeightedCache} (default) or by the
+	 * {@link SynchronizedOverflowingLRUCache}.
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	interface Cache<K, V> {
+
+		V get(K key);
+
+		V put(K key, V value);
+
+		V remove(K key);
+
+		void flush();
+
+		boolean isEmpty();
+
+		List<K> keysSnapshot();
+
+		List<V> elementsSnapshot();
+
+		V computeIfAbsent(K key, Function<? super K, ? extends V> loader);
+	}
+
+	/**
+	 * Lock-free cache bounded by the weight of its entries, counts its
+	 * evictions in {@link ApiModelCache#EVICTIONS}
+	 */
+	static class ConcurrentCache<K, V> extends ConcurrentWeightedCache<K, V> implements Cache<K, V> {
 
 		/**
 		 * Constructor
 		 */
-		public Cache(int size, int overflow) {
+		public ConcurrentCache(long weightLimit, long overflow, ToIntFunction<? super V> weigher) {
+			super(weightLimit, overflow, weigher);
+		}
+
+		@Override
+		protected void evicted(K key, V value) {
+			EVICTIONS.increment();
+		}
+	}
+
+	/**
+	 * Monitor based LRU cache, kept as fallback
+	 */
+	static class SynchronizedCache<K, V> extends SynchronizedOverflowingLRUCache<K, V> implements Cache<K, V> {
+
+		/**
+		 * Constructor
+		 */
+		public SynchronizedCache(int size, int overflow) {
 			super(size, overflow);
 		}
 
+		@Override
+		public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+			V value = get(key);
+			if (value == null) {
+				value = loader.apply(key);
+				if (value != null) {
+					put(key, value);
+				}
+			}
+			return value;
+		}
+
 		@Override
 		protected boolean close(LRUCacheEntry<K, V> entry) {
 			return true;
@@ -49,22 +109,103 @@ public final class ApiModelCache {
 
 		@Override
 		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+			return new SynchronizedCache<>(size, newOverflow);
 		}
 
 	}
 
+	/**
+	 * System property selecting the cache implementation, either
+	 * {@value #CACHE_MODE_CONCURRENT} (the default) or
+	 * {@value #CACHE_MODE_LRU}
+	 */
+	public static final String CACHE_MODE_PROPERTY = "org.eclipse.pde.api.tools.modelCache"; //$NON-NLS-1$
+
+	/**
+	 * Cache mode using the lock-free, weight bounded cache
+	 */
+	public static final String CACHE_MODE_CONCURRENT = "concurrent"; //$NON-NLS-1$
+
+	/**
+	 * Cache mode using the synchronized LRU cache
+	 */
+	public static final String CACHE_MODE_LRU = "lru"; //$NON-NLS-1$
+
+	/**
+	 * System property to set the maximum estimated retained size (in bytes) of
+	 * the types cached per component in {@value #CACHE_MODE_CONCURRENT} mode
+	 */
+	public static final String TYPE_WEIGHT_LIMIT_PROPERTY = "org.eclipse.pde.api.tools.modelCache.typeWeightLimit"; //$NON-NLS-1$
+
 	static final int DEFAULT_CACHE_SIZE = 1000;
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
+	/**
+	 * Estimated retained size of an average type, used to derive the default
+	 * weight limit from the former entry count limit
+	 */
+	static final int AVERAGE_TYPE_SIZE = 2048;
+	static final boolean USE_LRU = CACHE_MODE_LRU.equalsIgnoreCase(System.getProperty(CACHE_MODE_PROPERTY, CACHE_MODE_CONCURRENT));
+	static final long TYPE_WEIGHT_LIMIT = Long.getLong(TYPE_WEIGHT_LIMIT_PROPERTY, (long) DEFAULT_CACHE_SIZE * 2 * AVERAGE_TYPE_SIZE);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	final Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
+	final Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+
+	final LongAdder fHits = new LongAdder();
+	final LongAdder fMisses = new LongAdder();
+	/**
+	 * Number of entries evicted from any of the caches created by
+	 * {@link #newCache(int, int)} or {@link #newTypeCache()}
+	 */
+	static final LongAdder EVICTIONS = new LongAdder();
+
+	/**
+	 * Creates a new cache holding at most the given number of entries
+	 *
+	 * @param size the maximum number of entries
+	 * @param overflow the number of entries to remove in addition when the
+	 *            limit is reached
+	 * @return a new cache in the configured mode
+	 */
+	static <K, V> Cache<K, V> newCache(int size, int overflow) {
+		if (USE_LRU) {
+			return new SynchronizedCache<>(size, overflow);
+		}
+		return new ConcurrentCache<>(size, overflow, value -> 1);
+	}
+
+	/**
+	 * Creates a new cache for types, bounded by their estimated retained size
+	 * in {@value #CACHE_MODE_CONCURRENT} mode
+	 *
+	 * @return a new cache in the configured mode
+	 */
+	static <V extends IApiElement> Cache<String, V> newTypeCache() {
+		if (USE_LRU) {
+			return new SynchronizedCache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
+		}
+		return new ConcurrentCache<>(TYPE_WEIGHT_LIMIT, TYPE_WEIGHT_LIMIT / 10, ApiModelCache::getRetainedSize);
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by the given element
+	 *
+	 * @param element the element
+	 * @return the estimated retained size
+	 */
+	static int getRetainedSize(IApiElement element) {
+		if (element instanceof ApiType type) {
+			return type.getRetainedSize();
+		}
+		return AVERAGE_TYPE_SIZE;
+	}
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		fRootCache = newCache(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
+		fMemberTypeCache = newCache(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
 	}
 
 	/**
@@ -103,9 +244,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,16 +251,9 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.computeIfAbsent(baseline.getName(),
+							k -> newCache(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2));
+					Cache<String, IApiElement> typecache = compcache.computeIfAbsent(id, k -> newTypeCache());
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
 																			 * cache
@@ -140,15 +271,8 @@ public final class ApiModelCache {
 																			 * as
 																			 * well
 																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.computeIfAbsent(key, k -> newTypeCache());
 						mcache.put(type.getName(), type);
 					} else {
 						typecache.put(element.getName(), element);
@@ -203,6 +327,16 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
+		IApiElement element = getElementInfo0(baselineid, componentid, identifier, type);
+		if (element != null) {
+			fHits.increment();
+		} else {
+			fMisses.increment();
+		}
+		return element;
+	}
+
+	private IApiElement getElementInfo0(String baselineid, String componentid, String identifier, int type) {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (isMemberType(identifier)) {
@@ -402,6 +536,43 @@ public final class ApiModelCache {
 		}
 	}
 
+	/**
+	 * Returns the hit, miss and eviction counts of this cache since it was
+	 * created or since the last {@link #resetStatistics()}, along with the
+	 * number of cached types. Evictions and weights are only tracked in
+	 * {@value #CACHE_MODE_CONCURRENT} mode.
+	 *
+	 * @return the statistics of this cache
+	 */
+	public ConcurrentWeightedCache.Statistics getStatistics() {
+		int size = 0;
+		long weight = 0;
+		for (Cache<String, Cache<String, IApiElement>> compcache : fRootCache.elementsSnapshot()) {
+			for (Cache<String, IApiElement> typecache : compcache.elementsSnapshot()) {
+				size += typecache.keysSnapshot().size();
+				if (typecache instanceof ConcurrentWeightedCache<?, ?> concurrent) {
+					weight += concurrent.getWeight();
+				}
+			}
+		}
+		for (Cache<String, ApiType> mcache : fMemberTypeCache.elementsSnapshot()) {
+			size += mcache.keysSnapshot().size();
+			if (mcache instanceof ConcurrentWeightedCache<?, ?> concurrent) {
+				weight += concurrent.getWeight();
+			}
+		}
+		return new ConcurrentWeightedCache.Statistics(fHits.sum(), fMisses.sum(), EVICTIONS.sum(), size, weight);
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public void resetStatistics() {
+		fHits.reset();
+		fMisses.reset();
+		EVICTIONS.reset();
+	}
+
 	/**
 	 * Returns if the cache has any elements in it or not
 	 *
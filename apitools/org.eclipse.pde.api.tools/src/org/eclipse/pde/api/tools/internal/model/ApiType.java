@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
 
 /**
@@ -157,8 +156,7 @@ public class ApiType extends ApiMember implements IApiType {
 	public List<IReference> extractReferences(int referenceMask, IProgressMonitor monitor) throws CoreException {
 		HashSet<Reference> references = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		((AbstractApiTypeRoot) fStorage).accept(extractor);
 		return new LinkedList<>(references);
 	}
 
@@ -500,6 +498,27 @@ public class ApiType extends ApiMember implements IApiType {
 		return component.hashCode() + getName().hashCode();
 	}
 
+	/**
+	 * Returns a rough estimate of the number of bytes retained by this type
+	 * structure, including its fields, methods and member type names. Used to
+	 * weigh types in the {@link ApiModelCache}.
+	 *
+	 * @return the estimated retained size in bytes
+	 */
+	int getRetainedSize() {
+		int size = 256 + 2 * getName().length();
+		if (fFields != null) {
+			size += fFields.size() * 128;
+		}
+		if (fMethods != null) {
+			size += fMethods.size() * 192;
+		}
+		if (fMemberTypes != null) {
+			size += fMemberTypes.size() * 64;
+		}
+		return size;
+	}
+
 	/**
 	 * Used when building a type structure.
 	 *
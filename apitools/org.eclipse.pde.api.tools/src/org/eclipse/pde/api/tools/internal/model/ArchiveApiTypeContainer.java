@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,9 +87,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				ArchiveIndex index = archive.getIndex();
+				byte[] contents = index != null ? index.read(getName()) : null;
+				if (contents == null) {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					contents = Files.readAllBytes(classLocation);
+				}
+				fContents = contents;
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -118,6 +123,12 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Index of the class files of this archive, or <code>null</code> if the
+	 * archive is read through the zip file system
+	 */
+	private ArchiveIndex fIndex;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -185,7 +196,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fIndex != null) {
+			fIndex.release();
+		}
 	}
 
 	/**
@@ -220,10 +233,29 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * @return the index of this archive or <code>null</code> if the archive is
+	 *         not indexed
 	 */
+	private synchronized ArchiveIndex getIndex() throws CoreException {
+		init();
+		return fIndex;
+	}
+
+	/**
+	 * Initializes cache of packages and types. Plain archives are read from
+	 * their {@link ArchiveIndex}, the Java runtime image and archives that
+	 * cannot be indexed are scanned through their file system.
+	 */
+	@SuppressWarnings("restriction")
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
+			if (ArchiveIndex.ENABLED && !fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+				fIndex = ArchiveIndex.open(Path.of(fLocation));
+				if (fIndex != null) {
+					fPackages = fIndex.getPackages();
+					return;
+				}
+			}
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
@@ -0,0 +1,542 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Index of the class file entries of a jar or zip archive.
+ * <p>
+ * The index is built once from the central directory of the archive and
+ * persisted in a small binary file, keyed by the archive path, its last
+ * modification time and its size. Reopening an unchanged archive only reads
+ * the index file instead of scanning the archive again.
+ * </p>
+ * <p>
+ * Class file contents are read from a memory-mapped view of the archive:
+ * stored entries are copied straight out of the mapping and deflated entries
+ * are inflated from it directly into the resulting array, without any
+ * intermediate buffers.
+ * </p>
+ * <p>
+ * Archives that cannot be handled (ZIP64, encrypted entries, unsupported
+ * compression methods, archives larger than 2GB) are reported by
+ * {@link #open(Path)} returning <code>null</code>; callers then fall back to
+ * the zip file system.
+ * </p>
+ */
+public final class ArchiveIndex {
+
+	/**
+	 * System property to disable the archive index, set to <code>false</code>
+	 * to read archives through the zip file system only
+	 */
+	public static final String ENABLED_PROPERTY = "org.eclipse.pde.api.tools.archiveIndex"; //$NON-NLS-1$
+
+	static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, Boolean.TRUE.toString()));
+
+	/**
+	 * Version of the index file format, bump when the format changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Name of the folder the index files are stored in
+	 */
+	private static final String INDEX_FOLDER = ".archive_index"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_HEADER_SIGNATURE = 0x06054b50;
+	private static final int END_HEADER_SIZE = 22;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	/**
+	 * Whether index files of deleted archives have been pruned in this session
+	 */
+	private static final AtomicBoolean fPruned = new AtomicBoolean();
+
+	/**
+	 * Unmaps a mapped buffer right away instead of when it is garbage
+	 * collected, so that the archive is no longer locked (on Windows) once
+	 * the index is released. <code>null</code> if not supported by the VM.
+	 */
+	private static final MethodHandle UNMAP = lookupUnmap();
+
+	/**
+	 * Location of a class file entry in the archive
+	 *
+	 * @param method the compression method
+	 * @param compressedSize the number of bytes stored in the archive
+	 * @param size the size of the class file
+	 * @param dataOffset the offset of the entry data in the archive
+	 */
+	record Entry(int method, int compressedSize, int size, long dataOffset) {
+	}
+
+	private final Path fArchive;
+	private final long fLastModified;
+	private final long fSize;
+
+	/**
+	 * Entry name to entry location
+	 */
+	private final Map<String, Entry> fEntries;
+
+	private volatile MappedByteBuffer fBuffer;
+
+	/**
+	 * Reads hold the read lock while they access the mapping, releasing it
+	 * requires the write lock so that it is never unmapped under a reader
+	 */
+	private final ReadWriteLock fLock = new ReentrantReadWriteLock();
+
+	private ArchiveIndex(Path archive, long lastModified, long size, Map<String, Entry> entries) {
+		fArchive = archive;
+		fLastModified = lastModified;
+		fSize = size;
+		fEntries = entries;
+	}
+
+	/**
+	 * Opens the index of the given archive, reading it from the default index
+	 * location if it is up to date, or building and persisting it otherwise.
+	 *
+	 * @param archive the archive
+	 * @return the index or <code>null</code> if the archive cannot be indexed
+	 */
+	public static ArchiveIndex open(Path archive) {
+		Path location = getDefaultIndexLocation();
+		if (fPruned.compareAndSet(false, true)) {
+			prune(location);
+		}
+		return open(archive, location);
+	}
+
+	/**
+	 * Opens the index of the given archive, reading it from the given index
+	 * location if it is up to date, or building and persisting it otherwise.
+	 *
+	 * @param archive the archive
+	 * @param indexLocation the folder to keep index files in or
+	 *            <code>null</code> to not persist the index
+	 * @return the index or <code>null</code> if the archive cannot be indexed
+	 */
+	public static ArchiveIndex open(Path archive, Path indexLocation) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+			if (!attributes.isRegularFile() || attributes.size() > Integer.MAX_VALUE || attributes.size() < END_HEADER_SIZE) {
+				return null;
+			}
+			String key = archive.toAbsolutePath().toString();
+			long lastModified = attributes.lastModifiedTime().toMillis();
+			long size = attributes.size();
+			Path indexFile = indexLocation != null ? indexLocation.resolve(getIndexFileName(key)) : null;
+			if (indexFile != null && Files.isRegularFile(indexFile)) {
+				Map<String, Entry> entries = readIndex(indexFile, key, lastModified, size);
+				if (entries != null) {
+					return new ArchiveIndex(archive, lastModified, size, entries);
+				}
+			}
+			MappedByteBuffer buffer = map(archive, lastModified, size);
+			Map<String, Entry> entries = readCentralDirectory(buffer);
+			if (entries == null) {
+				return null;
+			}
+			ArchiveIndex index = new ArchiveIndex(archive, lastModified, size, entries);
+			index.fBuffer = buffer;
+			if (indexFile != null) {
+				writeIndex(indexFile, key, lastModified, size, entries);
+			}
+			return index;
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_PROJECT_COMPONENT) {
+				System.out.println("Unable to index archive " + archive + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * @return the folder index files are kept in, or <code>null</code> if
+	 *         there is none
+	 */
+	static Path getDefaultIndexLocation() {
+		try {
+			if (ApiPlugin.isRunningInFramework()) {
+				return ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toPath();
+			}
+			return Path.of(System.getProperty("java.io.tmpdir"), ApiPlugin.PLUGIN_ID, INDEX_FOLDER); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the class files of this archive in the form
+	 * <code>package name -> (type name -> entry name)</code>, sorted by name.
+	 *
+	 * @return the packages and type names of the indexed archive
+	 */
+	public Map<String, Map<String, String>> getPackages() {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		for (String name : fEntries.keySet()) {
+			String className = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+			String pkg = Signatures.getPackageName(className);
+			packages.computeIfAbsent(pkg, p -> new TreeMap<>()).put(className, name);
+		}
+		return packages;
+	}
+
+	/**
+	 * Reads the contents of the given class file entry
+	 *
+	 * @param entryName the name of the entry in the archive
+	 * @return the contents or <code>null</code> if the entry is not indexed
+	 * @throws IOException if the archive changed or cannot be read
+	 */
+	public byte[] read(String entryName) throws IOException {
+		Entry entry = fEntries.get(entryName);
+		if (entry == null) {
+			return null;
+		}
+		Lock lock = fLock.readLock();
+		lock.lock();
+		try {
+			return read(entryName, entry);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private byte[] read(String entryName, Entry entry) throws IOException {
+		// a duplicate has its own position and limit so concurrent reads do
+		// not interfere
+		ByteBuffer buffer = getBuffer().duplicate();
+		int start = (int) entry.dataOffset();
+		int end = start + entry.compressedSize();
+		if (end > buffer.capacity()) {
+			throw new IOException("Archive changed since it was indexed: " + fArchive); //$NON-NLS-1$
+		}
+		byte[] contents = new byte[entry.size()];
+		if (entry.method() == STORED) {
+			buffer.position(start).limit(end);
+			buffer.get(contents);
+			return contents;
+		}
+		// the inflater may need one byte past the deflated data
+		buffer.position(start).limit(Math.min(end + 1, buffer.capacity()));
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(buffer);
+			int read = 0;
+			while (read < contents.length) {
+				int count = inflater.inflate(contents, read, contents.length - read);
+				if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				read += count;
+			}
+			if (read != contents.length) {
+				throw new IOException("Unexpected end of entry " + entryName + " in " + fArchive); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Invalid entry " + entryName + " in " + fArchive, e); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			inflater.end();
+		}
+		return contents;
+	}
+
+	/**
+	 * @return the number of indexed class files
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * Unmaps the memory-mapped view of the archive, it is mapped again on the
+	 * next read. Waits for reads in progress to complete.
+	 */
+	public void release() {
+		Lock lock = fLock.writeLock();
+		lock.lock();
+		try {
+			MappedByteBuffer buffer = fBuffer;
+			fBuffer = null;
+			if (buffer != null) {
+				unmap(buffer);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void unmap(MappedByteBuffer buffer) {
+		if (UNMAP == null) {
+			// released by the garbage collector
+			return;
+		}
+		try {
+			UNMAP.invokeExact((ByteBuffer) buffer);
+		} catch (Throwable e) {
+			if (ApiPlugin.DEBUG_PROJECT_COMPONENT) {
+				System.out.println("Unable to unmap archive " + fArchive + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	private static MethodHandle lookupUnmap() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe"); //$NON-NLS-1$
+			Field field = unsafeClass.getDeclaredField("theUnsafe"); //$NON-NLS-1$
+			field.setAccessible(true);
+			Object unsafe = field.get(null);
+			return MethodHandles.lookup()
+					.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class)) //$NON-NLS-1$
+					.bindTo(unsafe);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private MappedByteBuffer getBuffer() throws IOException {
+		MappedByteBuffer buffer = fBuffer;
+		if (buffer == null) {
+			synchronized (this) {
+				buffer = fBuffer;
+				if (buffer == null) {
+					buffer = map(fArchive, fLastModified, fSize);
+					fBuffer = buffer;
+				}
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Maps the given archive into memory, making sure it is still the one
+	 * that was indexed
+	 */
+	private static MappedByteBuffer map(Path archive, long lastModified, long size) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+			if (channel.size() != size || Files.getLastModifiedTime(archive).toMillis() != lastModified) {
+				throw new IOException("Archive changed since it was indexed: " + archive); //$NON-NLS-1$
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer;
+	}
+
+	/**
+	 * Reads the class file entries from the central directory of the mapped
+	 * archive
+	 *
+	 * @return the entries or <code>null</code> if the archive uses features
+	 *         not supported by the index
+	 */
+	private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer) throws IOException {
+		int limit = buffer.limit();
+		int end = -1;
+		for (int i = limit - END_HEADER_SIZE, min = Math.max(0, limit - END_HEADER_SIZE - 0xFFFF); i >= min; i--) {
+			if (buffer.getInt(i) == END_HEADER_SIGNATURE) {
+				end = i;
+				break;
+			}
+		}
+		if (end < 0) {
+			throw new IOException("Not a zip archive"); //$NON-NLS-1$
+		}
+		int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+		long offset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+		if (count == 0xFFFF || offset == 0xFFFFFFFFL) {
+			// ZIP64
+			return null;
+		}
+		Map<String, Entry> entries = new HashMap<>(count);
+		int pos = (int) offset;
+		for (int i = 0; i < count; i++) {
+			if (pos + 46 > limit || buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE) {
+				throw new IOException("Invalid central directory"); //$NON-NLS-1$
+			}
+			int flags = Short.toUnsignedInt(buffer.getShort(pos + 8));
+			int method = Short.toUnsignedInt(buffer.getShort(pos + 10));
+			long compressedSize = Integer.toUnsignedLong(buffer.getInt(pos + 20));
+			long size = Integer.toUnsignedLong(buffer.getInt(pos + 24));
+			int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+			int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 30));
+			int commentLength = Short.toUnsignedInt(buffer.getShort(pos + 32));
+			long localOffset = Integer.toUnsignedLong(buffer.getInt(pos + 42));
+			byte[] nameBytes = new byte[nameLength];
+			buffer.get(pos + 46, nameBytes);
+			String name = new String(nameBytes, StandardCharsets.UTF_8);
+			pos += 46 + nameLength + extraLength + commentLength;
+			if (!name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+				continue;
+			}
+			if ((flags & 1) != 0 || (method != STORED && method != DEFLATED) || compressedSize == 0xFFFFFFFFL
+					|| size == 0xFFFFFFFFL || localOffset == 0xFFFFFFFFL) {
+				// encrypted, unsupported compression or ZIP64 entry
+				return null;
+			}
+			int local = (int) localOffset;
+			if (local + 30 > limit || buffer.getInt(local) != LOCAL_HEADER_SIGNATURE) {
+				throw new IOException("Invalid local header for " + name); //$NON-NLS-1$
+			}
+			long dataOffset = local + 30L + Short.toUnsignedInt(buffer.getShort(local + 26))
+					+ Short.toUnsignedInt(buffer.getShort(local + 28));
+			if (dataOffset + compressedSize > limit) {
+				throw new IOException("Truncated entry " + name); //$NON-NLS-1$
+			}
+			entries.put(name, new Entry(method, (int) compressedSize, (int) size, dataOffset));
+		}
+		return entries;
+	}
+
+	private static Map<String, Entry> readIndex(Path indexFile, String key, long lastModified, long size) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != VERSION || !key.equals(in.readUTF()) || in.readLong() != lastModified
+					|| in.readLong() != size) {
+				return null;
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				entries.put(name, new Entry(in.readUnsignedByte(), in.readInt(), in.readInt(), in.readLong()));
+			}
+			return entries;
+		} catch (IOException e) {
+			// stale or corrupt index, rebuild it
+			return null;
+		}
+	}
+
+	private static void writeIndex(Path indexFile, String key, long lastModified, long size, Map<String, Entry> entries) {
+		try {
+			Files.createDirectories(indexFile.getParent());
+			Path tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+					out.writeInt(VERSION);
+					out.writeUTF(key);
+					out.writeLong(lastModified);
+					out.writeLong(size);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> e : entries.entrySet()) {
+						Entry entry = e.getValue();
+						out.writeUTF(e.getKey());
+						out.writeByte(entry.method());
+						out.writeInt(entry.compressedSize());
+						out.writeInt(entry.size());
+						out.writeLong(entry.dataOffset());
+					}
+				}
+				Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			// the index is only an optimization, the archive is indexed again
+			// next time
+			if (ApiPlugin.DEBUG_PROJECT_COMPONENT) {
+				System.out.println("Unable to write archive index " + indexFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Deletes all index files in the given folder whose archive no longer
+	 * exists, i.e. of archives extracted to temporary locations
+	 *
+	 * @param indexLocation the index folder
+	 */
+	static void prune(Path indexLocation) {
+		if (indexLocation == null || !Files.isDirectory(indexLocation)) {
+			return;
+		}
+		Set<Path> stale = new HashSet<>();
+		try (Stream<Path> files = Files.list(indexLocation)) {
+			files.filter(f -> f.getFileName().toString().endsWith(INDEX_EXTENSION)).forEach(f -> {
+				try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(f)))) {
+					if (in.readInt() != VERSION || !Files.exists(Path.of(in.readUTF()))) {
+						stale.add(f);
+					}
+				} catch (IOException e) {
+					stale.add(f);
+				}
+			});
+			for (Path file : stale) {
+				Files.deleteIfExists(file);
+			}
+		} catch (IOException e) {
+			// ignore, pruning is best effort
+		}
+	}
+
+	private static String getIndexFileName(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder buffer = new StringBuilder(digest.length * 2 + INDEX_EXTENSION.length());
+			for (byte b : digest) {
+				buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return buffer.append(INDEX_EXTENSION).toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode()) + INDEX_EXTENSION;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,12 +52,12 @@ import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
-import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiDescriptionCache.CachedDescription;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
@@ -184,6 +184,23 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component from the specified location in the file
+	 * system in the given baseline using an already known manifest, e.g. one
+	 * restored from a baseline snapshot.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param manifest the manifest headers of the bundle at the given location
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	public BundleComponent(IApiBaseline baseline, String location, Map<String, String> manifest, long bundleid)
+			throws CoreException {
+		this(baseline, location, bundleid);
+		fManifest = manifest;
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
@@ -429,20 +446,43 @@ public class BundleComponent extends Component {
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
 		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
-		// first mark all packages as internal
-		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
-		try {
-			String xml = loadApiDescription(new File(fLocation));
-			setHasApiDescription(xml != null);
-			if (xml != null) {
-				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
+		ApiDescriptionCache cache = ApiDescriptionCache.getDefault();
+		String key = cache != null ? getDescriptionCacheKey(cache) : null;
+		CachedDescription description = key != null ? cache.readDescription(key) : null;
+		if (description == null) {
+			Set<String> packages = getLocalPackageNames();
+			String xml = null;
+			try {
+				xml = loadApiDescription(new File(fLocation));
+			} catch (IOException e) {
+				abort("Unable to load .api_description file ", e); //$NON-NLS-1$
+			}
+			description = CachedDescription.create(packages, xml);
+			if (key != null) {
+				cache.writeDescription(key, description);
 			}
-		} catch (IOException e) {
-			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
 		}
+		// first mark all packages as internal
+		initializeApiDescription(apiDesc, getBundleDescription(), description.getPackages());
+		setHasApiDescription(description.hasApiDescription());
+		description.annotate(apiDesc);
 		return apiDesc;
 	}
 
+	/**
+	 * Returns the key of this component in the given API description cache.
+	 * Only binary bundle jars are cached.
+	 *
+	 * @param cache the cache
+	 * @return the key or <code>null</code> if this component is not cached
+	 */
+	public String getDescriptionCacheKey(ApiDescriptionCache cache) {
+		if (!isBinary() || isWorkspaceBinary()) {
+			return null;
+		}
+		return cache.getKey(getSymbolicName(), getVersion(), Path.of(fLocation));
+	}
+
 	/**
 	 * Returns the names of all packages that originate from this bundle. Does
 	 * not include packages that originate from fragments or a host.
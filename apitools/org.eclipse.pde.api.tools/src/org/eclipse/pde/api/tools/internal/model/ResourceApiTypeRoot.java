@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,15 @@ public class ResourceApiTypeRoot extends AbstractApiTypeRoot {
 		return fFile.readAllBytes();
 	}
 
+	/**
+	 * Workspace class files are compared and scanned for references by the
+	 * builder, so they are decoded once for both.
+	 */
+	@Override
+	protected boolean shareScan() {
+		return true;
+	}
+
 	@Override
 	public String getTypeName() {
 		return getName();
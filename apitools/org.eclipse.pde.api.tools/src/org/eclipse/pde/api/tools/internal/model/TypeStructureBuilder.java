@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 /**
  * Class adapter used to create an API type structure
  */
@@ -46,6 +47,12 @@ public class TypeStructureBuilder extends ClassVisitor {
 	IApiComponent fComponent;
 	IApiTypeRoot fFile;
 
+	/**
+	 * Whether method bodies and annotations are not visited, see
+	 * {@link #buildTypeStructure(AbstractApiTypeRoot, IApiComponent)}
+	 */
+	boolean fStructureOnly = false;
+
 	/**
 	 * Builds a type structure for a class file. Note that if an API component
 	 * is not specified, then some operations on the resulting {@link IApiType}
@@ -153,6 +160,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 			}
 		}
 		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
+		if (fStructureOnly) {
+			return null;
+		}
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
 				super.visitMethod(laccess, name, desc, signature, exceptions)) {
 			@Override
@@ -269,6 +279,45 @@ public class TypeStructureBuilder extends ClassVisitor {
 		return visitor.fType;
 	}
 
+	/**
+	 * Builds a type structure from the decoded class file of the given type
+	 * root in the specified API component. The class file is decoded only once
+	 * and is then available to other visitors of the type root, see
+	 * {@link AbstractApiTypeRoot#accept(ClassVisitor)}.
+	 *
+	 * @param file associated class file
+	 * @param component originating API component
+	 */
+	static IApiType buildTypeStructure(AbstractApiTypeRoot file, IApiComponent component) throws CoreException {
+		TypeStructureBuilder visitor = new TypeStructureBuilder(null, component, file);
+		// method bodies are not replayed, only annotation default values are
+		// read from the methods without code
+		visitor.fStructureOnly = true;
+		ClassNode node = file.getClassNode();
+		try {
+			// the decoded class file is shared with the other visitors of the
+			// type root, see AbstractApiTypeRoot#accept(ClassVisitor)
+			synchronized (node) {
+				node.accept(visitor);
+				for (MethodNode methodNode : node.methods) {
+					if (methodNode.annotationDefault != null && methodNode.instructions.size() == 0
+							&& visitor.fType.getMethod(methodNode.name, methodNode.desc) instanceof ApiMethod method) {
+						methodNode.accept(new MethodVisitor(Util.LATEST_OPCODES_ASM) {
+							@Override
+							public AnnotationVisitor visitAnnotationDefault() {
+								return new AnnotationDefaultVisitor(method);
+							}
+						});
+					}
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			// thrown from ASM for bad bytecodes
+			return logAndReturn(file, e);
+		}
+		return visitor.fType;
+	}
+
 	/**
 	 * Builds a type structure with the given .class file bytes in the specified
 	 * API component.
@@ -278,8 +327,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (typeRoot instanceof AbstractApiTypeRoot abstractApiTypeRoot) {
 			EnclosingMethodSetter visitor = new EnclosingMethodSetter(new ClassNode(), currentAnonymousLocalType.getName());
 			try {
-				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
-				classReader.accept(visitor, ClassReader.SKIP_FRAMES);
+				abstractApiTypeRoot.accept(visitor);
 			} catch (ArrayIndexOutOfBoundsException | CoreException e) {
 				// bytes could not be retrieved for abstractApiTypeRoot
 				ApiPlugin.log(e);
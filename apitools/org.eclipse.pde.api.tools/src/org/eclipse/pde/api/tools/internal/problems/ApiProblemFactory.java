@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,9 +45,10 @@ public class ApiProblemFactory {
 	public static final int TYPE_CONVERSION_ID = 76;
 
 	/**
-	 * The current mapping of problem id to message
+	 * The current mapping of problem id to message. Lazily initialized, may
+	 * be accessed by several analysis threads at once.
 	 */
-	private static Hashtable<Comparable<? extends Object>, String> fMessages = null;
+	private static volatile Hashtable<Comparable<? extends Object>, String> fMessages = null;
 
 	/**
 	 * Creates a new {@link IApiProblemFilter}
@@ -387,10 +388,8 @@ public class ApiProblemFactory {
 	 *         message
 	 */
 	public static String getLocalizedMessage(int messageid, String[] messageargs) {
-		if (fMessages == null) {
-			fMessages = loadMessageTemplates(Locale.getDefault());
-		}
-		String pattern = fMessages.get(Integer.valueOf(messageid));
+		Hashtable<Comparable<? extends Object>, String> messages = getMessages();
+		String pattern = messages.get(Integer.valueOf(messageid));
 		if (pattern == null) {
 			return MessageFormat.format(BuilderMessages.ApiProblemFactory_problem_message_not_found, Integer.toString(messageid));
 		}
@@ -400,10 +399,10 @@ public class ApiProblemFactory {
 					IDelta.ANNOTATION_ELEMENT_TYPE, IDelta.CLASS_ELEMENT_TYPE,
 					IDelta.ENUM_ELEMENT_TYPE, IDelta.INTERFACE_ELEMENT_TYPE, };
 			String[] typeElementTypesStrings = {
-					fMessages.get(Util.getDeltaElementType(IDelta.ANNOTATION_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.CLASS_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.ENUM_ELEMENT_TYPE)),
-					fMessages.get(Util.getDeltaElementType(IDelta.INTERFACE_ELEMENT_TYPE)), };
+					messages.get(Util.getDeltaElementType(IDelta.ANNOTATION_ELEMENT_TYPE)),
+					messages.get(Util.getDeltaElementType(IDelta.CLASS_ELEMENT_TYPE)),
+					messages.get(Util.getDeltaElementType(IDelta.ENUM_ELEMENT_TYPE)),
+					messages.get(Util.getDeltaElementType(IDelta.INTERFACE_ELEMENT_TYPE)), };
 			ChoiceFormat choiceFormat = new ChoiceFormat(typeElementTypes, typeElementTypesStrings);
 			messageFormat.setFormatByArgumentIndex(1, choiceFormat);
 			messageFormat.setFormatByArgumentIndex(2, choiceFormat);
@@ -416,6 +415,23 @@ public class ApiProblemFactory {
 		return MessageFormat.format(pattern, (Object[]) messageargs);
 	}
 
+	/**
+	 * @return the message templates for the default locale, loaded once
+	 */
+	private static Hashtable<Comparable<? extends Object>, String> getMessages() {
+		Hashtable<Comparable<? extends Object>, String> messages = fMessages;
+		if (messages == null) {
+			synchronized (ApiProblemFactory.class) {
+				messages = fMessages;
+				if (messages == null) {
+					messages = loadMessageTemplates(Locale.getDefault());
+					fMessages = messages;
+				}
+			}
+		}
+		return messages;
+	}
+
 	/**
 	 * This method initializes the MessageTemplates class variable according to
 	 * the current Locale.
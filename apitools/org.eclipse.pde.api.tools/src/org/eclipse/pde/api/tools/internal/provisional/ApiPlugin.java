@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -503,7 +503,7 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 	/**
 	 * @return The singleton instance of the {@link JavadocTagManager}
 	 */
-	public static JavadocTagManager getJavadocTagManager() {
+	public static synchronized JavadocTagManager getJavadocTagManager() {
 		if (fgTagManager == null) {
 			fgTagManager = new JavadocTagManager();
 		}
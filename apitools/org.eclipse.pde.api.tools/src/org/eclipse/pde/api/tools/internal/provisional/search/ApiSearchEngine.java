@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -123,6 +128,39 @@ public final class ApiSearchEngine {
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * The number of scope elements searched concurrently
+	 */
+	private int fParallelism = 1;
+
+	/**
+	 * Sets the number of elements of the search scope that are searched
+	 * concurrently. Defaults to <code>1</code>, i.e. the elements are searched
+	 * one after the other. A value of <code>0</code> or less uses the number of
+	 * available processors.
+	 * <p>
+	 * When more than one element is searched at a time, the requestor and the
+	 * reporter passed to
+	 * {@link #search(IApiBaseline, IApiSearchRequestor, IApiSearchReporter, IProgressMonitor)}
+	 * must support being called from several threads.
+	 * </p>
+	 *
+	 * @param parallelism the number of elements searched concurrently
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = parallelism;
+	}
+
+	/**
+	 * @return the number of elements to search concurrently
+	 */
+	private int getParallelism() {
+		if (fParallelism <= 0) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return fParallelism;
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -250,31 +288,36 @@ public final class ApiSearchEngine {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
-		for (int i = 0; i < scopeelements.length; i++) {
-			try {
-				taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
-						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
-				localmonitor.setTaskName(taskname);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					loopstart = System.currentTimeMillis();
-					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
-				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
-				localmonitor.setTaskName(taskname);
-				if (localmonitor.isCanceled()) {
-					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+		int threads = Math.min(getParallelism(), scopeelements.length);
+		if (threads > 1) {
+			mstatus = searchConcurrently(requestor, scopeelements, reporter, localmonitor, threads);
+		} else {
+			for (int i = 0; i < scopeelements.length; i++) {
+				try {
+					taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+							scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
+					localmonitor.setTaskName(taskname);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						loopstart = System.currentTimeMillis();
+						System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+					localmonitor.setTaskName(taskname);
+					if (localmonitor.isCanceled()) {
+						reporter.reportResults(scopeelements[i], NO_REFERENCES);
+						return;
+					}
+					localmonitor.worked(1);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
+								+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+					}
+				} catch (CoreException ce) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
 				}
-				localmonitor.worked(1);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
-							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
-				}
-			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
-				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
 			}
 		}
 		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -285,6 +328,65 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Searches the given scope elements concurrently, each one on its own
+	 * thread of a new pool with the given number of threads. Progress is
+	 * reported in the order of the elements.
+	 *
+	 * @return the status of the failed searches or <code>null</code> if all
+	 *         searches succeeded
+	 */
+	private MultiStatus searchConcurrently(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor monitor, int threads) {
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Searching " + scopeelements.length + " elements using " + threads + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		// the workers only poll the cancellation of the shared monitor
+		IProgressMonitor cancellation = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		MultiStatus mstatus = null;
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			List<ForkJoinTask<Object>> tasks = new ArrayList<>(scopeelements.length);
+			for (IApiElement element : scopeelements) {
+				tasks.add(pool.submit(() -> {
+					searchReferences(requestor, element, reporter, cancellation);
+					return null;
+				}));
+			}
+			for (int i = 0; i < scopeelements.length; i++) {
+				monitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext));
+				try {
+					tasks.get(i).get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException ce) {
+						if (mstatus == null) {
+							mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+						}
+						mstatus.add(Status.error(ce.getMessage(), ce));
+					} else if (!(cause instanceof OperationCanceledException)) {
+						ApiPlugin.log(cause);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return mstatus;
+				}
+				if (monitor.isCanceled()) {
+					return mstatus;
+				}
+				monitor.worked(2);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return mstatus;
+	}
+
 	/**
 	 * Computes the process context (label)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,21 +13,27 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.FactoryConfigurationError;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
 import org.eclipse.pde.api.tools.internal.builder.Reference;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -41,15 +47,16 @@ import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescrip
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
-import org.eclipse.pde.api.tools.internal.util.Util;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Writes reference descriptions to XML files.
+ * <p>
+ * Every call to {@link #writeReferences(IReferenceDescriptor[])} streams the
+ * given references into new chunk files next to the ones written before, e.g.
+ * <code>type_references.xml</code>, <code>type_references_1.xml</code>, and so
+ * on, instead of parsing and rewriting the files written so far. The
+ * {@link UseScanParser} visits all chunks of a group one after the other.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -64,7 +71,12 @@ public class XmlReferenceDescriptorWriter {
 	private static final Integer V_ILLEGAL = Integer.valueOf(VisibilityModifiers.ILLEGAL_API);
 	private String fLocation = null;
 	private Map<String, Map<String, Map<Integer, Map<Integer, Map<String, Set<IReferenceDescriptor>>>>>> fReferenceMap = null;
-	private DocumentBuilder parser = null;
+
+	/**
+	 * The index of the next chunk to write for each group of references,
+	 * keyed by the group file without extension
+	 */
+	private final Map<File, Integer> fChunks = new HashMap<>();
 
 	/**
 	 * Alternate API component where references were unresolved, or
@@ -78,21 +90,14 @@ public class XmlReferenceDescriptorWriter {
 	 * @param location the absolute path in the local file system to the folder
 	 *            to write the reports to
 	 */
-	@SuppressWarnings("restriction")
 	public XmlReferenceDescriptorWriter(String location) {
 		fLocation = location;
-		try {
-			parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
-			parser.setErrorHandler(new DefaultHandler());
-		} catch (FactoryConfigurationError | ParserConfigurationException pce) {
-			ApiPlugin.log(pce);
-		}
 	}
 
 	/**
 	 * Writes the given references to XML files.
 	 */
-	public void writeReferences(IReferenceDescriptor[] references) {
+	public synchronized void writeReferences(IReferenceDescriptor[] references) {
 		if (fLocation != null) {
 			try {
 				File parent = new File(fLocation);
@@ -225,8 +230,7 @@ public class XmlReferenceDescriptorWriter {
 	}
 
 	/**
-	 * Writes out a group of references under the newly created element with the
-	 * given name
+	 * Writes out a group of references into the next chunk file of the group
 	 *
 	 * @param origin the name of the bundle that has the references in it
 	 * @param referee the name of the bundle that is referenced
@@ -235,156 +239,136 @@ public class XmlReferenceDescriptorWriter {
 			Map<String, Set<IReferenceDescriptor>> map, int visibility)
 			throws CoreException, IOException {
 		if (parent.exists()) {
-			Document doc = null;
-			Element root = null;
 			int count = 0;
-			File out = new File(parent, name + ".xml"); //$NON-NLS-1$
-			if (out.exists()) {
+			for (Set<IReferenceDescriptor> refs : map.values()) {
+				count += refs.size();
+			}
+			File out = getChunkFile(parent, name);
+			try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(out.toPath()))) {
+				XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(stream, StandardCharsets.UTF_8.name());
 				try {
-					try (FileInputStream inputStream = new FileInputStream(out)) {
-						doc = this.parser.parse(inputStream);
-					} catch (IOException e) {
-						e.printStackTrace();
+					writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+					writer.writeStartElement(IApiXmlConstants.REFERENCES);
+					writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
+					writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
+					writer.writeAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
+					writer.writeAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
+					if (alternate != null) {
+						writer.writeAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
 					}
-					if (doc == null) {
-						return;
-					}
-					root = doc.getDocumentElement();
-					String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
-					count = Integer.parseInt(value);
-				} catch (SAXException se) {
-					se.printStackTrace();
-				}
-			} else {
-				doc = Util.newDocument();
-				root = doc.createElement(IApiXmlConstants.REFERENCES);
-				doc.appendChild(root);
-				root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
-				root.setAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
-				root.setAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
-				root.setAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
-				if (alternate != null) {
-					root.setAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
-				}
-			}
-			if (doc == null || root == null) {
-				return;
-			}
-			for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
-				String tname = entry.getKey();
-				Element telement = findTypeElement(root, tname);
-				if (telement == null) {
-					telement = doc.createElement(IApiXmlConstants.ELEMENT_TARGET);
-					telement.setAttribute(IApiXmlConstants.ATTR_NAME, tname);
-					root.appendChild(telement);
-				}
-				Set<IReferenceDescriptor> refs = entry.getValue();
-				if (refs != null) {
-					for (Iterator<IReferenceDescriptor> iter2 = refs.iterator(); iter2.hasNext();) {
-						count++;
-						IReferenceDescriptor ref = iter2.next();
-						writeReference(doc, telement, ref);
-						if (!iter2.hasNext()) {
-							// set qualified referenced attributes
-							IMemberDescriptor resolved = ref.getReferencedMember();
-							if (resolved != null) {
-								addMemberDetails(telement, resolved);
-							}
-						}
+					writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+					for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
+						writeTarget(writer, entry.getKey(), entry.getValue());
 					}
+					writer.writeEndElement();
+					writer.writeEndDocument();
+					writer.flush();
+				} finally {
+					writer.close();
 				}
+			} catch (XMLStreamException e) {
+				throw new CoreException(Status.error("Unable to write references to " + out, e)); //$NON-NLS-1$
 			}
-			root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
-			Util.writeDocumentToFile(doc, out.toPath());
 		}
 	}
 
 	/**
-	 * Add member descriptor details to the given element.
+	 * Returns the next chunk file to write the given group of references to,
+	 * skipping chunks that already exist in the given folder
 	 *
-	 * @param element XML element
-	 * @param member member to add details for
+	 * @param parent the folder of the group
+	 * @param name the name of the group
+	 * @return the file to write the next chunk of the group to
 	 */
-	private void addMemberDetails(Element element, IMemberDescriptor member) {
-		switch (member.getElementType()) {
-			case IElementDescriptor.TYPE -> element.setAttribute(IApiXmlConstants.ATTR_TYPE,
-					((IReferenceTypeDescriptor) member).getQualifiedName());
-			case IElementDescriptor.FIELD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-			}
-			case IElementDescriptor.METHOD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-				element.setAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
-			}
-			default -> { /**/ }
-		}
+	private File getChunkFile(File parent, String name) {
+		File group = new File(parent, name);
+		int index = fChunks.getOrDefault(group, Integer.valueOf(0)).intValue();
+		File out;
+		do {
+			out = new File(parent, (index == 0 ? name : name + '_' + index) + ".xml"); //$NON-NLS-1$
+			index++;
+		} while (out.exists());
+		fChunks.put(group, Integer.valueOf(index));
+		return out;
 	}
 
 	/**
-	 * gets the root kind element
+	 * Writes the element of a referenced member with the references to it
+	 * grouped by reference kind
 	 */
-	private Element findTypeElement(Element root, String tname) {
-		if (tname == null) {
-			return null;
+	private void writeTarget(XMLStreamWriter writer, String tname, Set<IReferenceDescriptor> refs) throws XMLStreamException, CoreException {
+		writer.writeStartElement(IApiXmlConstants.ELEMENT_TARGET);
+		if (tname != null) {
+			writer.writeAttribute(IApiXmlConstants.ATTR_NAME, tname);
+		}
+		Map<Integer, List<IReferenceDescriptor>> kinds = new LinkedHashMap<>();
+		IMemberDescriptor resolved = null;
+		for (IReferenceDescriptor ref : refs) {
+			kinds.computeIfAbsent(Integer.valueOf(ref.getReferenceKind()), k -> new ArrayList<>()).add(ref);
+			resolved = ref.getReferencedMember();
 		}
-		Element kelement = null;
-		NodeList nodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_TARGET);
-		for (int i = 0; i < nodes.getLength(); i++) {
-			kelement = (Element) nodes.item(i);
-			if (tname.equals(kelement.getAttribute(IApiXmlConstants.ATTR_NAME))) {
-				return kelement;
+		if (resolved != null) {
+			// set qualified referenced attributes
+			writeMemberDetails(writer, resolved);
+		}
+		for (Entry<Integer, List<IReferenceDescriptor>> entry : kinds.entrySet()) {
+			Integer kind = entry.getKey();
+			List<IReferenceDescriptor> references = entry.getValue();
+			writer.writeStartElement(IApiXmlConstants.REFERENCE_KIND);
+			writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.intValue()));
+			writer.writeAttribute(IApiXmlConstants.ATTR_KIND, kind.toString());
+			writer.writeAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(references.get(0).getReferenceFlags()));
+			for (IReferenceDescriptor reference : references) {
+				writeReference(writer, reference);
 			}
+			writer.writeEndElement();
 		}
-		return null;
+		writer.writeEndElement();
 	}
 
 	/**
-	 * gets the root kind element
+	 * Writes member descriptor details as attributes of the current element.
+	 *
+	 * @param writer XML stream
+	 * @param member member to add details for
 	 */
-	private Element findKindElement(Element root, Integer kind) {
-		Element kelement = null;
-		NodeList nodes = root.getElementsByTagName(IApiXmlConstants.REFERENCE_KIND);
-		for (int i = 0; i < nodes.getLength(); i++) {
-			kelement = (Element) nodes.item(i);
-			if (kind.toString().equals(kelement.getAttribute(IApiXmlConstants.ATTR_KIND))) {
-				return kelement;
+	private void writeMemberDetails(XMLStreamWriter writer, IMemberDescriptor member) throws XMLStreamException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> writer.writeAttribute(IApiXmlConstants.ATTR_TYPE,
+					((IReferenceTypeDescriptor) member).getQualifiedName());
+			case IElementDescriptor.FIELD -> {
+				IReferenceTypeDescriptor encl = member.getEnclosingType();
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+			}
+			case IElementDescriptor.METHOD -> {
+				IReferenceTypeDescriptor encl = member.getEnclosingType();
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
 			}
+			default -> { /**/ }
 		}
-		return null;
 	}
 
 	/**
 	 * Writes the attributes from the given {@link IReference} into a new
-	 * {@link Element} that is added to the given parent.
+	 * element of the current kind element.
 	 */
-	private void writeReference(Document document, Element parent, IReferenceDescriptor reference) throws CoreException {
-		Integer kind = Integer.valueOf(reference.getReferenceKind());
-		Element kelement = findKindElement(parent, kind);
-		if (kelement == null) {
-			kelement = document.createElement(IApiXmlConstants.REFERENCE_KIND);
-			kelement.setAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.intValue()));
-			kelement.setAttribute(IApiXmlConstants.ATTR_KIND, kind.toString());
-			kelement.setAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(reference.getReferenceFlags()));
-			parent.appendChild(kelement);
+	private void writeReference(XMLStreamWriter writer, IReferenceDescriptor reference) throws XMLStreamException, CoreException {
+		if (reference.getReferencedMember() == null) {
+			return;
 		}
-		Element relement = document.createElement(IApiXmlConstants.ATTR_REFERENCE);
+		writer.writeEmptyElement(IApiXmlConstants.ATTR_REFERENCE);
 		IMemberDescriptor member = reference.getMember();
-		relement.setAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
+		writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
 		String[] messages = reference.getProblemMessages();
 		if (messages != null) {
-			relement.setAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
+			writer.writeAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
 		}
 		// add detailed information about origin
-		addMemberDetails(relement, member);
-		member = reference.getReferencedMember();
-		if (member != null) {
-			relement.setAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
-			kelement.appendChild(relement);
-		}
+		writeMemberDetails(writer, member);
+		writer.writeAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
 	}
 
 	/**
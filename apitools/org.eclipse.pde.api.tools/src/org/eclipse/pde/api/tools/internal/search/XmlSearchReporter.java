@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,13 +40,16 @@ import org.w3c.dom.Element;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Search reporter that outputs results to an XML file
+ * Search reporter that outputs results to an XML file. Results can be reported
+ * concurrently, each batch of references is streamed into new chunk files by
+ * a single {@link XmlReferenceDescriptorWriter}.
  *
  * @since 1.0.1
  */
 public class XmlSearchReporter implements IApiSearchReporter {
 
 	private String fLocation = null;
+	private XmlReferenceDescriptorWriter writer = null;
 	private DocumentBuilder parser = null;
 	private boolean debug = false;
 	private int referenceCount = 0;
@@ -64,6 +67,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	public XmlSearchReporter(String location, boolean debug) {
 		fLocation = location;
 		this.debug = debug;
+		this.writer = new XmlReferenceDescriptorWriter(location);
 		try {
 			parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
 			parser.setErrorHandler(new DefaultHandler());
@@ -73,7 +77,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportResults(IApiElement element, final IReference[] references) {
+	public synchronized void reportResults(IApiElement element, final IReference[] references) {
 		if (references.length == 0) {
 			// This reporter does not create xml for components with no
 			// references
@@ -82,7 +86,6 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
@@ -174,7 +177,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
@@ -167,6 +169,13 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 */
 	private boolean processUnresolvedBundles = true;
 
+	/**
+	 * The number of components analyzed concurrently, <code>1</code> (the
+	 * default) analyzes them one after the other, values less than one use
+	 * the number of available processors.
+	 */
+	private int parallelism = 1;
+
 	private Summary[] createAllSummaries(Map<String, IApiProblem[]> allProblems) {
 		Set<Map.Entry<String, IApiProblem[]>> entrySet = allProblems.entrySet();
 		int size = entrySet.size();
@@ -362,6 +371,7 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 			IApiComponent[] apiComponents = currentBaseline.getApiComponents();
 			int length = apiComponents.length;
 			Set<String> visitedApiComponentNames = new HashSet<>();
+			List<IApiComponent> componentsToAnalyze = new ArrayList<>();
 			for (int i = 0; i < length; i++) {
 				IApiComponent apiComponent = apiComponents[i];
 				String name = apiComponent.getSymbolicName();
@@ -398,23 +408,16 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 				}
 
 				allApiBundles.add(name);
-				BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
-				try {
-					analyzer.setContinueOnResolverError(true);
-					analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
-					IApiProblem[] problems = analyzer.getProblems();
-					// remove duplicates
-					problems = removeDuplicates(problems);
-					if (problems.length != 0) {
-						allProblems.put(name, problems);
-					} else if (this.debug) {
-						System.out.println(name + " has no problems"); //$NON-NLS-1$
-					}
-				} catch (RuntimeException e) {
-					ApiPlugin.log(e);
-					throw e;
-				} finally {
-					analyzer.dispose();
+				componentsToAnalyze.add(apiComponent);
+			}
+			List<IApiProblem[]> results = analyzeComponents(referenceBaseline, componentsToAnalyze);
+			for (int i = 0; i < componentsToAnalyze.size(); i++) {
+				String name = componentsToAnalyze.get(i).getSymbolicName();
+				IApiProblem[] problems = results.get(i);
+				if (problems.length != 0) {
+					allProblems.put(name, problems);
+				} else if (this.debug) {
+					System.out.println(name + " has no problems"); //$NON-NLS-1$
 				}
 			}
 			if (debug) {
@@ -492,6 +495,76 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Analyzes the given components against the reference baseline. When a
+	 * parallelism greater than one is set, the components are analyzed
+	 * concurrently, each one by its own {@link BaseApiAnalyzer}.
+	 *
+	 * @param referenceBaseline the baseline to compare against
+	 * @param components the components to analyze
+	 * @return the problems found for each component, without duplicates, in
+	 *         the order of the given components
+	 */
+	private List<IApiProblem[]> analyzeComponents(IApiBaseline referenceBaseline, List<IApiComponent> components) {
+		int threads = Math.min(getParallelism(), components.size());
+		if (threads <= 1) {
+			List<IApiProblem[]> results = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				results.add(analyzeComponent(referenceBaseline, component));
+			}
+			return results;
+		}
+		if (this.debug) {
+			System.out.println("Analyzing " + components.size() + " components using " + threads + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			List<ForkJoinTask<IApiProblem[]>> tasks = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				tasks.add(pool.submit(() -> analyzeComponent(referenceBaseline, component)));
+			}
+			// join in submission order to keep the merged output deterministic
+			List<IApiProblem[]> results = new ArrayList<>(tasks.size());
+			for (ForkJoinTask<IApiProblem[]> task : tasks) {
+				results.add(task.join());
+			}
+			return results;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Analyzes a single component with a fresh {@link BaseApiAnalyzer}
+	 *
+	 * @return the problems found, without duplicates
+	 */
+	private IApiProblem[] analyzeComponent(IApiBaseline referenceBaseline, IApiComponent apiComponent) {
+		String name = apiComponent.getSymbolicName();
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
+			// remove duplicates
+			return removeDuplicates(analyzer.getProblems());
+		} catch (RuntimeException e) {
+			ApiPlugin.log(e);
+			throw e;
+		} finally {
+			analyzer.dispose();
+		}
+	}
+
+	/**
+	 * @return the number of components to analyze concurrently
+	 */
+	private int getParallelism() {
+		if (this.parallelism <= 0) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return this.parallelism;
+	}
+
 	/**
 	 * Returns <code>true</code> if the given component should be filtered from
 	 * results of this task. This may be because the name is a match or partial
@@ -875,4 +948,21 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of api components (bundles) that are analyzed
+	 * concurrently. Each component is analyzed on its own, the problems are
+	 * merged in the same order as in a sequential run so the report does not
+	 * depend on this setting.
+	 * <p>
+	 * Defaults to <code>1</code>, i.e. components are analyzed one after the
+	 * other. A value of <code>0</code> or less uses the number of available
+	 * processors.
+	 * </p>
+	 *
+	 * @param parallelism the number of components analyzed concurrently
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
 }
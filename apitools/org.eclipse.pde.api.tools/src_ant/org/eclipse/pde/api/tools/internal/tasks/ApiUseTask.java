@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,13 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * The number of components searched concurrently, <code>1</code> (the
+	 * default) searches them one after the other, values less than one use
+	 * the number of available processors.
+	 */
+	private int parallelism = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -302,6 +309,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
 			ApiSearchEngine engine = new ApiSearchEngine();
+			engine.setParallelism(this.parallelism);
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
@@ -623,4 +631,21 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the number of api components (bundles) that are searched
+	 * concurrently. The references found are streamed to the report while the
+	 * search runs, so the reference files of a component may be split into
+	 * several chunks.
+	 * <p>
+	 * Defaults to <code>1</code>, i.e. components are searched one after the
+	 * other. A value of <code>0</code> or less uses the number of available
+	 * processors.
+	 * </p>
+	 *
+	 * @param parallelism the number of components searched concurrently
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
 }
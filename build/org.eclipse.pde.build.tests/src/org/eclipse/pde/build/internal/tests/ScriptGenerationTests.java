@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -27,6 +27,7 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -2452,4 +2453,54 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("parallelScriptGeneration");
+
+		String[] plugins = new String[9];
+		for (int i = 0; i < 8; i++) {
+			plugins[i] = "P" + i;
+			IFolder plugin = Utils.createFolder(buildFolder, "plugins/" + plugins[i]);
+			Attributes additional = new Attributes();
+			if (i > 0)
+				additional.put(new Attributes.Name("Require-Bundle"), "P" + (i - 1));
+			Utils.generateBundleManifest(plugin, plugins[i], "1.0.0", additional);
+			Utils.generatePluginBuildProperties(plugin, null);
+			Utils.writeBuffer(plugin.getFile("src/p" + i + "/A.java"),
+					new StringBuffer("package p" + i + "; public class A { }"));
+		}
+		plugins[8] = "fragment";
+		IFolder fragment = Utils.createFolder(buildFolder, "plugins/fragment");
+		Attributes additional = new Attributes();
+		additional.put(new Attributes.Name("Fragment-Host"), "P0");
+		Utils.generateBundleManifest(fragment, "fragment", "1.0.0", additional);
+		Utils.generatePluginBuildProperties(fragment, null);
+		Utils.writeBuffer(fragment.getFile("src/f/F.java"), new StringBuffer("package f; public class F { }"));
+
+		Utils.generateFeature(buildFolder, "F", null, plugins);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "F");
+		properties.put("parallelScriptGeneration", "false");
+		generateScripts(buildFolder, properties);
+		Map<String, String> serial = readPluginScripts(buildFolder, plugins);
+
+		properties.put("parallelScriptGeneration", "true");
+		generateScripts(buildFolder, properties);
+		assertEquals(serial, readPluginScripts(buildFolder, plugins));
+	}
+
+	/**
+	 * Reads and then deletes the generated build.xml of the given plug-ins
+	 */
+	private Map<String, String> readPluginScripts(IFolder buildFolder, String[] plugins) throws Exception {
+		Map<String, String> scripts = new HashMap<>();
+		for (String plugin : plugins) {
+			File script = buildFolder.getFile("plugins/" + plugin + "/build.xml").getLocation().toFile();
+			assertTrue(script.exists());
+			scripts.put(plugin, Files.readString(script.toPath()));
+			assertTrue(script.delete());
+		}
+		return scripts;
+	}
 }
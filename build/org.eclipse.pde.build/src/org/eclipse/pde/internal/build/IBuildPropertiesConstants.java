@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,7 @@ public interface IBuildPropertiesConstants {
 	public static final String PROPERTY_PREREQ_COMPILE_LOG = "compilation.prereq.log"; //$NON-NLS-1$
 
 	public static final String PROPERTY_SUPPRESS_RESOLUTION_ERRORS = "suppressResolutionErrors"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_SCRIPT_GENERATION = "parallelScriptGeneration"; //$NON-NLS-1$
 	public static final String PROPERTY_ANT_VERSION = "ant.version"; //$NON-NLS-1$
 
 	public static final String SOURCE_PLUGIN = "sourcePlugin"; //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -100,7 +105,10 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	// Synchronized as plug-in scripts are generated concurrently. A location
+	// only depends on the order of generation if two bundle jars have the same
+	// file name, which the state does not contain.
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
 			return element.getPath();
 
@@ -521,6 +529,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			return;
 
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
 				continue;
@@ -532,7 +541,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -546,6 +555,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setCompiledElements(getCompiledElements());
 			generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
 			generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
+			// Each script only sees the plug-ins configured before it, as if the scripts were generated one after the other
+			generator.setCompiledElements(new HashSet<>(getCompiledElements()));
 			generator.setFeatureGenerator(this);
 			generator.setPluginPath(getPluginPath());
 			generator.setDevEntries(devEntries);
@@ -553,9 +564,54 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			generators.add(generator);
 		}
+		generateScripts(generators);
+	}
 
+	/**
+	 * Generates the build scripts of the given plug-ins on a pool bounded by
+	 * the number of processors, unless the parallelScriptGeneration property
+	 * is false. Each generator writes its own build.xml, works on its own copy
+	 * of the compiled elements and only reads the shared state, so the scripts
+	 * do not depend on the order of generation. If generators fail, the
+	 * failure of the first plug-in in the given order is thrown.
+	 */
+	private void generateScripts(List<ModelBuildScriptGenerator> generators) throws CoreException {
+		boolean parallel = !Boolean.FALSE.toString().equalsIgnoreCase(AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_PARALLEL_SCRIPT_GENERATION));
+		int threads = parallel ? Math.min(generators.size(), Runtime.getRuntime().availableProcessors()) : 1;
+		if (threads <= 1) {
+			for (ModelBuildScriptGenerator generator : generators) {
+				generator.generate();
+			}
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.generate();
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof CoreException coreException)
+						throw coreException;
+					if (e.getCause() instanceof RuntimeException runtimeException)
+						throw runtimeException;
+					throw new IllegalStateException(e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(Status.CANCEL_STATUS);
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,19 +252,26 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		Dictionary<String, String> manifest = loadBundleManifest(bundleLocation);
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
 		}
-		try {
-			hasQualifier(bundleLocation, manifest);
-		} catch (BundleException e) {
-			//should not happen since we know the header
-		}
 		return addBundle(manifest, bundleLocation);
 	}
 
+	//Load the manifest of a bundle and detect its qualifier, this only reads the bundle and may run concurrently
+	private Dictionary<String, String> loadBundleManifest(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
+		if (manifest != null) {
+			try {
+				hasQualifier(bundleLocation, manifest);
+			} catch (BundleException e) {
+				//should not happen since we know the header
+			}
+		}
+		return manifest;
+	}
+
 	private boolean addFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
 			return false;
@@ -380,8 +387,23 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		long start = System.currentTimeMillis();
+		// The manifests are loaded in parallel, but the bundles are added to
+		// the state in the given order so that their ids do not depend on the
+		// loading order
+		List<File> files = new ArrayList<>(bundles);
+		List<Dictionary<String, String>> manifests = files.parallelStream().map(this::loadBundleManifest).toList();
+		long loaded = System.currentTimeMillis();
+		for (int i = 0; i < files.size(); i++) {
+			Dictionary<String, String> manifest = manifests.get(i);
+			if (manifest == null) {
+				addFlexibleRoot(files.get(i));
+			} else {
+				addBundle(manifest, files.get(i));
+			}
+		}
+		if (BundleHelper.getDefault().isDebugging()) {
+			System.out.println("Loaded " + files.size() + " bundle manifests in " + (loaded - start) + " ms, added bundles to the state in " + (System.currentTimeMillis() - loaded) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 		}
 	}
 
@@ -795,7 +817,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		return patchBundles;
 	}
 
-	public List<BundleDescription> getSortedBundles() {
+	public synchronized List<BundleDescription> getSortedBundles() {
 		if (lastSortingDate != getState().getTimeStamp()) {
 			lastSortingDate = getState().getTimeStamp();
 			BundleDescription[] toSort = getState().getResolvedBundles();
@@ -879,7 +901,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		this.eeSources = eeSources;
 	}
 
-	public ProfileManager getProfileManager() {
+	public synchronized ProfileManager getProfileManager() {
 		if (profileManager == null) {
 			profileManager = new ProfileManager(eeSources, true);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,14 +21,19 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetPlatformService;
@@ -69,6 +74,77 @@ public class DependencyManager {
 		INCLUDE_NON_TEST_FRAGMENTS;
 	}
 
+	/**
+	 * A required wire of a bundle, reduced to the ids of the bundles the
+	 * closure computation needs
+	 */
+	private record RequiredWire(long declaringBundle, long provider, boolean optional) {
+	}
+
+	/**
+	 * The ids of the fragments and the required wires of a resolved bundle
+	 */
+	private record BundleEdges(long[] fragments, List<RequiredWire> wires) {
+		/** Edges of a bundle that is not wired */
+		static final BundleEdges NOT_WIRED = new BundleEdges(new long[0], List.of());
+	}
+
+	/**
+	 * Maximal number of closures remembered per state
+	 */
+	private static final int MAX_CACHED_CLOSURES = 64;
+
+	/**
+	 * Index of the wires of a {@link State}, valid as long as the timestamp of
+	 * the state does not change and no delta of the state is reported through
+	 * {@link DependencyManager#stateResolved(StateDelta)}.
+	 * <p>
+	 * Bundles are only referenced by their id, because a bundle description
+	 * references its containing state, which would keep the state in
+	 * {@link DependencyManager#CLOSURE_INDEXES} reachable forever.
+	 * </p>
+	 */
+	private static final class ClosureIndex {
+		private final long fTimeStamp;
+		private final Map<Long, BundleEdges> fEdges = new ConcurrentHashMap<>();
+		private final Map<ClosureKey, Set<Long>> fClosures = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ClosureKey, Set<Long>> eldest) {
+				return size() > MAX_CACHED_CLOSURES;
+			}
+		};
+
+		ClosureIndex(long timeStamp) {
+			fTimeStamp = timeStamp;
+		}
+
+		BundleEdges getEdges(BundleDescription bundle) {
+			return fEdges.computeIfAbsent(bundle.getBundleId(), id -> computeEdges(bundle));
+		}
+
+		Set<Long> getClosure(ClosureKey key) {
+			synchronized (fClosures) {
+				return fClosures.get(key);
+			}
+		}
+
+		void putClosure(ClosureKey key, Set<Long> closure) {
+			synchronized (fClosures) {
+				fClosures.put(key, closure);
+			}
+		}
+	}
+
+	private record ClosureKey(Set<Long> bundles, Set<Options> options) {
+	}
+
+	/**
+	 * The wire index of each state closures have been computed for
+	 */
+	private static final Map<State, ClosureIndex> CLOSURE_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Returns a {@link Set} of bundle descriptions of the given
 	 * {@link IPluginModelBase}s and all of their required dependencies
@@ -170,6 +246,26 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
+		State state = getCommonState(bundles);
+		ClosureIndex index = state != null ? getClosureIndex(state) : null;
+		// whether a fragment is a test fragment is not part of the state
+		ClosureKey key = index != null && !includeNonTestFragments
+				? new ClosureKey(getBundleIds(bundles), optionSet)
+				: null;
+		if (key != null) {
+			Set<Long> cached = index.getClosure(key);
+			if (cached != null) {
+				Set<BundleDescription> closure = new HashSet<>(cached.size() * 4 / 3 + 1);
+				for (Long id : cached) {
+					BundleDescription bundle = state.getBundle(id);
+					if (bundle != null) {
+						closure.add(bundle);
+					}
+				}
+				return closure;
+			}
+		}
+
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
 		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
 
@@ -182,39 +278,122 @@ public class DependencyManager {
 		while (!pending.isEmpty()) {
 			BundleDescription bundle = pending.remove();
 
-			BundleWiring wiring = bundle.getWiring();
-			if (wiring == null || !wiring.isInUse()) {
+			BundleEdges edges = index != null ? index.getEdges(bundle) : computeEdges(bundle);
+			State bundleState = state != null ? state : bundle.getContainingState();
+			if (edges == BundleEdges.NOT_WIRED || bundleState == null) {
 				continue;
 			}
 
 			if (includeAllFragments || includeNonTestFragments) {
 				// A fragment's host is already required by a wire
-				for (BundleDescription fragment : bundle.getFragments()) {
-					if (includeAllFragments || !isTestWorkspaceProject(fragment)) {
+				for (long fragmentId : edges.fragments()) {
+					BundleDescription fragment = bundleState.getBundle(fragmentId);
+					if (includeAllFragments || (fragment != null && !isTestWorkspaceProject(fragment))) {
 						addNewRequiredBundle(fragment, closure, pending);
 					}
 				}
 			}
 
-			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
-			for (BundleWire wire : requiredWires) {
-				BundleRevision declaringBundle = wire.getRequirement().getRevision();
-				if (declaringBundle != bundle && !closure.contains(declaringBundle)) {
+			for (RequiredWire wire : edges.wires()) {
+				long declaringBundle = wire.declaringBundle();
+				if (declaringBundle != bundle.getBundleId()
+						&& !closure.contains(bundleState.getBundle(declaringBundle))) {
 					// Requirement is declared by an attached fragment, which is
 					// not included into the closure.
 					continue;
 				}
-				BundleRevision provider = wire.getCapability().getRevision();
-				// Use revision of required capability to support the case if
-				// fragments contribute new packages to their host's API.
-				if (provider instanceof BundleDescription requiredBundle && (includeOptional || !isOptional(wire.getRequirement()))) {
-					addNewRequiredBundle(requiredBundle, closure, pending);
+				if (includeOptional || !wire.optional()) {
+					addNewRequiredBundle(bundleState.getBundle(wire.provider()), closure, pending);
 				}
 			}
 		}
+		if (key != null) {
+			index.putClosure(key, getBundleIds(closure));
+		}
 		return closure;
 	}
 
+	private static Set<Long> getBundleIds(Collection<BundleDescription> bundles) {
+		Set<Long> ids = new HashSet<>(bundles.size() * 4 / 3 + 1);
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				ids.add(bundle.getBundleId());
+			}
+		}
+		return Collections.unmodifiableSet(ids);
+	}
+
+	/**
+	 * Discards the closures computed for the state of the given delta. Has to
+	 * be called when the wiring of a state changes.
+	 *
+	 * @param delta
+	 *            the delta of the resolved state or <code>null</code> to
+	 *            discard the closures of all states
+	 */
+	static void stateResolved(StateDelta delta) {
+		if (delta == null) {
+			CLOSURE_INDEXES.clear();
+		} else {
+			CLOSURE_INDEXES.remove(delta.getState());
+		}
+	}
+
+	private static ClosureIndex getClosureIndex(State state) {
+		long timeStamp = state.getTimeStamp();
+		synchronized (CLOSURE_INDEXES) {
+			ClosureIndex index = CLOSURE_INDEXES.get(state);
+			if (index == null || index.fTimeStamp != timeStamp) {
+				index = new ClosureIndex(timeStamp);
+				CLOSURE_INDEXES.put(state, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * @return the state containing all given bundles or <code>null</code> if
+	 *         they are not all contained in the same state
+	 */
+	private static State getCommonState(Collection<BundleDescription> bundles) {
+		State state = null;
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				State containing = bundle.getContainingState();
+				if (containing == null || (state != null && state != containing)) {
+					return null;
+				}
+				state = containing;
+			}
+		}
+		return state;
+	}
+
+	private static BundleEdges computeEdges(BundleDescription bundle) {
+		BundleWiring wiring = bundle.getWiring();
+		if (wiring == null || !wiring.isInUse()) {
+			return BundleEdges.NOT_WIRED;
+		}
+		List<BundleWire> requiredWires = wiring.getRequiredWires(null);
+		List<RequiredWire> wires = new ArrayList<>(requiredWires.size());
+		for (BundleWire wire : requiredWires) {
+			BundleRevision provider = wire.getCapability().getRevision();
+			// Use revision of required capability to support the case if
+			// fragments contribute new packages to their host's API.
+			if (provider instanceof BundleDescription requiredBundle
+					&& wire.getRequirement().getRevision() instanceof BundleDescription declaringBundle) {
+				wires.add(new RequiredWire(declaringBundle.getBundleId(), requiredBundle.getBundleId(),
+						isOptional(wire.getRequirement())));
+			}
+		}
+		BundleDescription[] fragments = bundle.getFragments();
+		long[] fragmentIds = new long[fragments.length];
+		for (int i = 0; i < fragments.length; i++) {
+			fragmentIds[i] = fragments[i].getBundleId();
+		}
+		return new BundleEdges(fragmentIds, wires);
+	}
+
 	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
 			Queue<BundleDescription> pending) {
 		if (bundle != null && bundle.isResolved() && !bundle.isRemovalPending() && requiredBundles.add(bundle)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,7 +204,7 @@ public class MinimalState {
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	protected BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
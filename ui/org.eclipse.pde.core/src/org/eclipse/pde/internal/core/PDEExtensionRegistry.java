@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,11 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -48,6 +51,28 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * The registry contents of one contributor converted for the model it was
+	 * computed for
+	 */
+	private record ModelContribution<T>(IPluginModelBase model, T[] elements) {
+	}
+
+	/**
+	 * Secondary indexes of the registry contents. Entries are dropped when a
+	 * contribution they depend on is added to or removed from the registry,
+	 * see {@link #contributionChanged(IExtensionRegistry, IContributor)}.
+	 */
+	private final Map<String, IPluginModelBase[]> fExtensionPlugins = new ConcurrentHashMap<>();
+	private final Map<String, ModelContribution<IPluginExtension>> fExtensionsByContributor = new ConcurrentHashMap<>();
+	private final Map<String, ModelContribution<IPluginExtensionPoint>> fExtensionPointsByContributor = new ConcurrentHashMap<>();
+	/**
+	 * Guards the indexes against entries computed from outdated registry
+	 * contents, incremented whenever entries are dropped
+	 */
+	private final Object fIndexLock = new Object();
+	private long fIndexGeneration;
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -92,6 +117,7 @@ public class PDEExtensionRegistry {
 
 	protected synchronized IExtensionRegistry getRegistry() {
 		if (fRegistry == null) {
+			clearIndexes();
 			fRegistry = createRegistry();
 			for (ListIterator<IRegistryChangeListener> li = fListeners.listIterator(); li.hasNext();) {
 				fRegistry.addRegistryChangeListener(li.next());
@@ -112,31 +138,109 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearIndexes();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		clearIndexes();
+	}
+
+	// Methods to maintain the indexes
+
+	/**
+	 * Drops the index entries that depend on the given contribution. Called by
+	 * the registry strategy after a contribution is added and before it is
+	 * removed.
+	 *
+	 * @param registry
+	 *            the registry the contribution is added to or removed from
+	 * @param contributor
+	 *            the contributor of the contribution
+	 */
+	void contributionChanged(IExtensionRegistry registry, IContributor contributor) {
+		synchronized (fIndexLock) {
+			// a lookup in progress may have read the registry before the change
+			fIndexGeneration++;
+			if (fExtensionPlugins.isEmpty() && fExtensionsByContributor.isEmpty()
+					&& fExtensionPointsByContributor.isEmpty()) {
+				return;
+			}
+			if (contributor instanceof RegistryContributor registryContributor) {
+				fExtensionsByContributor.remove(registryContributor.getActualId());
+				fExtensionPointsByContributor.remove(registryContributor.getActualId());
+			}
+			if (!fExtensionPlugins.isEmpty()) {
+				for (IExtension extension : registry.getExtensions(contributor)) {
+					fExtensionPlugins.remove(extension.getExtensionPointUniqueIdentifier());
+				}
+				for (IExtensionPoint point : registry.getExtensionPoints(contributor)) {
+					fExtensionPlugins.remove(point.getUniqueIdentifier());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drops all index entries
+	 */
+	void clearIndexes() {
+		synchronized (fIndexLock) {
+			fIndexGeneration++;
+			fExtensionPlugins.clear();
+			fExtensionsByContributor.clear();
+			fExtensionPointsByContributor.clear();
+		}
+	}
+
+	private long getIndexGeneration() {
+		synchronized (fIndexLock) {
+			return fIndexGeneration;
+		}
+	}
+
+	private <K, V> void putIndex(Map<K, V> index, K key, V value, long generation) {
+		synchronized (fIndexLock) {
+			if (generation == fIndexGeneration) {
+				index.put(key, value);
+			}
+		}
 	}
 
 	// Methods to access data in Extension Registry
 
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
-		IExtensionPoint point = getExtensionPoint(pointId);
-		if (point == null) {
-			// if extension point for extension does not exist, search all plug-ins manually
-			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+		IPluginModelBase[] plugins = fExtensionPlugins.get(pointId);
+		if (plugins == null) {
+			long generation = getIndexGeneration();
+			IExtensionPoint point = getExtensionPoint(pointId);
+			if (point == null) {
+				// if extension point for extension does not exist, search all plug-ins manually
+				return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+			}
+			IExtension[] exts = point.getExtensions();
+			Set<IPluginModelBase> contributors = new LinkedHashSet<>();
+			for (IExtension ext : exts) {
+				IPluginModelBase base = getPlugin(ext.getContributor(), false);
+				if (base != null) {
+					contributors.add(base);
+				}
+			}
+			plugins = contributors.toArray(new IPluginModelBase[contributors.size()]);
+			putIndex(fExtensionPlugins, pointId, plugins, generation);
+		}
+		if (!activeOnly) {
+			return plugins.clone();
 		}
-		IExtension[] exts = point.getExtensions();
-		HashSet<IPluginModelBase> plugins = new HashSet<>();
-		for (IExtension ext : exts) {
-			IPluginModelBase base = getPlugin(ext.getContributor(), false);
-			if (base != null && !plugins.contains(base) && (!activeOnly || base.isEnabled())) {
-				plugins.add(base);
+		ArrayList<IPluginModelBase> active = new ArrayList<>(plugins.length);
+		for (IPluginModelBase base : plugins) {
+			if (base.isEnabled()) {
+				active.add(base);
 			}
 		}
-		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+		return active.toArray(new IPluginModelBase[active.size()]);
 	}
 
 	/*
@@ -189,15 +293,22 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtension[0];
 		}
-		IExtension[] extensions = getRegistry().getExtensions(fStrategy.createContributor(base));
-		ArrayList<PluginExtension> list = new ArrayList<>();
-		for (IExtension ext : extensions) {
-			PluginExtension extension = new PluginExtension(ext);
-			extension.setModel(getExtensionsModel(base));
-			extension.setParent(base.getExtensions());
-			list.add(extension);
+		String contributorId = ((RegistryContributor) contributor).getActualId();
+		ModelContribution<IPluginExtension> contribution = fExtensionsByContributor.get(contributorId);
+		if (contribution == null || contribution.model() != base) {
+			long generation = getIndexGeneration();
+			IExtension[] extensions = getRegistry().getExtensions(contributor);
+			ArrayList<PluginExtension> list = new ArrayList<>();
+			for (IExtension ext : extensions) {
+				PluginExtension extension = new PluginExtension(ext);
+				extension.setModel(getExtensionsModel(base));
+				extension.setParent(base.getExtensions());
+				list.add(extension);
+			}
+			contribution = new ModelContribution<>(base, list.toArray(new IPluginExtension[list.size()]));
+			putIndex(fExtensionsByContributor, contributorId, contribution, generation);
 		}
-		return list.toArray(new IPluginExtension[list.size()]);
+		return contribution.elements().clone();
 	}
 
 	public IPluginExtensionPoint[] findExtensionPointsForPlugin(IPluginModelBase base) {
@@ -205,15 +316,22 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtensionPoint[0];
 		}
-		IExtensionPoint[] extensions = getRegistry().getExtensionPoints(fStrategy.createContributor(base));
-		ArrayList<PluginExtensionPoint> list = new ArrayList<>();
-		for (IExtensionPoint extension : extensions) {
-			PluginExtensionPoint point = new PluginExtensionPoint(extension);
-			point.setModel(getExtensionsModel(base));
-			point.setParent(base.getExtensions());
-			list.add(point);
+		String contributorId = ((RegistryContributor) contributor).getActualId();
+		ModelContribution<IPluginExtensionPoint> contribution = fExtensionPointsByContributor.get(contributorId);
+		if (contribution == null || contribution.model() != base) {
+			long generation = getIndexGeneration();
+			IExtensionPoint[] extensions = getRegistry().getExtensionPoints(contributor);
+			ArrayList<PluginExtensionPoint> list = new ArrayList<>();
+			for (IExtensionPoint extension : extensions) {
+				PluginExtensionPoint point = new PluginExtensionPoint(extension);
+				point.setModel(getExtensionsModel(base));
+				point.setParent(base.getExtensions());
+				list.add(point);
+			}
+			contribution = new ModelContribution<>(base, list.toArray(new IPluginExtensionPoint[list.size()]));
+			putIndex(fExtensionPointsByContributor, contributorId, contribution, generation);
 		}
-		return list.toArray(new IPluginExtensionPoint[list.size()]);
+		return contribution.elements().clone();
 	}
 
 	private ISharedPluginModel getExtensionsModel(IPluginModelBase base) {
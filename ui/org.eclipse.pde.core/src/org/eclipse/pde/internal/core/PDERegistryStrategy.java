@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,10 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			}
 			entries = delta.getAddedEntries();
 			ModelEntry[] removedEntries = delta.getRemovedEntries();
+			if (removedEntries.length > 0) {
+				// removed models are not necessarily removed from the registry
+				fPDERegistry.clearIndexes();
+			}
 			if (removedEntries.length == entries.length && fRegistry instanceof IDynamicExtensionRegistry) {
 				for (ModelEntry entry : removedEntries) {
 					if (entry.getId() != null) {
@@ -97,6 +101,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 						IContributor[] contributors = registry.getAllContributors();
 						for (IContributor contributor : contributors) {
 							if (entry.getId().equals(contributor.getName())) {
+								fPDERegistry.contributionChanged(registry, contributor);
 								registry.removeContributor(contributor, fKey);
 								break;
 							}
@@ -239,13 +244,15 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			}
 		} catch (IOException ignored) {
 		}
+		fPDERegistry.contributionChanged(registry, contributor);
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		if (registry instanceof IDynamicExtensionRegistry) {
 			IContributor contributor = createContributor(base);
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
+				fPDERegistry.contributionChanged(registry, contributor);
+				((IDynamicExtensionRegistry) registry).removeContributor(contributor, fKey);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,15 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -60,7 +65,8 @@ public class PDEState extends MinimalState {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
+		// The state itself is not restored from a cache as it had no
+		// performance benefit, only the target manifests are cached
 		createNewTargetState(addResolver, target, monitor);
 
 		if (removeDuplicates) {
@@ -86,15 +92,68 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
+				uris.length * 2);
+		addTargetManifests(readTargetManifests(uris, subMonitor), subMonitor);
+	}
+
+	/**
+	 * Reads the manifests of the given target bundles in parallel, consuming
+	 * one tick of the monitor per bundle.
+	 */
+	private TargetManifest[] readTargetManifests(URI[] uris, SubMonitor subMonitor) {
+		// reading the manifests dominates, so they are read in parallel, while
+		// the bundles are added in the order of the given URIs to keep their
+		// ids stable
+		long start = System.currentTimeMillis();
+		TargetManifestCache cache = TargetManifestCache.isEnabled()
+				? TargetManifestCache.load(TargetManifestCache.getDefaultFile())
+				: null;
+		TargetManifest[] manifests = Arrays.stream(uris).parallel().map(uri -> {
+			subMonitor.split(1);
 			File file = toFile(uri);
 			if (file == null) {
+				return null;
+			}
+			try {
+				Map<String, String> headers = cache != null ? cache.loadManifest(file) : ManifestUtils.loadManifest(file);
+				return new TargetManifest(file, headers, null);
+			} catch (CoreException e) {
+				return new TargetManifest(file, null, e);
+			}
+		}).toArray(TargetManifest[]::new);
+		if (cache != null) {
+			cache.save();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to read " + uris.length + " target manifests (" //$NON-NLS-1$ //$NON-NLS-2$
+					+ (cache != null ? cache.getHits() + " cached" : "cache disabled") + "): " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+		return manifests;
+	}
+
+	/**
+	 * Adds the bundles of the given manifests to the state in their order,
+	 * consuming one tick of the monitor per manifest.
+	 *
+	 * @return the descriptions of the added bundles
+	 */
+	private List<BundleDescription> addTargetManifests(TargetManifest[] manifests, SubMonitor subMonitor) {
+		long start = System.currentTimeMillis();
+		List<BundleDescription> added = new ArrayList<>(manifests.length);
+		for (TargetManifest manifest : manifests) {
+			if (manifest == null) {
 				continue;
 			}
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				subMonitor.subTask(manifest.file().getName());
+				if (manifest.error() != null) {
+					throw manifest.error();
+				}
+				BundleDescription desc = addBundle(manifest.file(), -1, manifest.headers());
+				if (desc != null) {
+					added.add(desc);
+				}
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -102,6 +161,50 @@ public class PDEState extends MinimalState {
 			}
 			subMonitor.split(1);
 		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to add target bundles to state: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return added;
+	}
+
+	/**
+	 * Adds the given bundles to the target of this state without resolving
+	 * the state, for example when a target change only added a few bundles.
+	 *
+	 * @param uris locations of the target bundles to add
+	 * @param monitor progress monitor
+	 * @return the models of the added bundles
+	 */
+	public IPluginModelBase[] addTargetBundles(URI[] uris, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, uris.length * 2);
+		List<BundleDescription> added = addTargetManifests(readTargetManifests(uris, subMonitor), subMonitor);
+		IPluginModelBase[] models = new IPluginModelBase[added.size()];
+		for (int i = 0; i < models.length; i++) {
+			models[i] = createExternalModel(added.get(i));
+			fTargetModels.add(models[i]);
+		}
+		return models;
+	}
+
+	/**
+	 * Removes the given target models and their bundles from this state
+	 * without resolving the state.
+	 *
+	 * @param models the target models to remove
+	 */
+	public void removeTargetModels(Collection<IPluginModelBase> models) {
+		Set<IPluginModelBase> removed = new HashSet<>(models);
+		fTargetModels.removeIf(removed::contains);
+		for (IPluginModelBase model : removed) {
+			removeBundleDescription(model.getBundleDescription());
+		}
+	}
+
+	/**
+	 * The manifest headers read from a target bundle, or the error reading
+	 * them
+	 */
+	private record TargetManifest(File file, Map<String, String> headers, CoreException error) {
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,13 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
@@ -31,12 +35,15 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
 
+import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
@@ -59,10 +66,13 @@ import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.internal.core.target.DirectoryBundleContainer;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.osgi.resource.Resource;
 
@@ -91,6 +101,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			SubMonitor subMonitor = SubMonitor.convert(monitor);
 			try {
 				boolean more = false;
 				do {
@@ -102,7 +113,12 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
+					// compute all containers as one batch sharing the state
+					// queries for their common dependencies
+					subMonitor.setWorkRemaining(2);
+					RequiredPluginsClasspathContainer.computeClasspathEntries(containers, subMonitor.split(1));
+					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers,
+							subMonitor.split(1));
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
 					}
@@ -185,6 +201,33 @@ public class PluginModelManager implements IModelProviderListener {
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
 	private PDEState fState; // keeps the combined view of the target and workspace
+	private Map<URI, BundleStamp> fTargetStamps; // the target bundles in fState, null if they must be reloaded completely
+	private List<String> fTargetEnvironment; // the target environment fState was created for
+
+	/*
+	 * Specify VM property {@code -Dpde.watchTargetDirectories=true} to watch
+	 * the directory locations of the target platform. Bundles added to,
+	 * removed from or changed in such a directory are then applied to the
+	 * models incrementally without reloading the target.
+	 */
+	private static final boolean WATCH_TARGET_DIRECTORIES = Boolean.getBoolean("pde.watchTargetDirectories"); //$NON-NLS-1$
+
+	/**
+	 * The watched directory locations of the target platform by identity, as
+	 * containers of the same directory are equal, only access synchronized on
+	 * this set
+	 */
+	private final Set<DirectoryBundleContainer> fWatchedDirectories = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Applies the changes of watched target directories to the models. The
+	 * changed bundles are already part of the resolved target, so the
+	 * incremental reload picks them up.
+	 */
+	private final Job fTargetDirectoryJob = Job.create(PDECoreMessages.PluginModelManager_InitializingPluginModels,
+			monitor -> {
+				targetReloaded(monitor);
+			});
 
 	/**
 	 * only access synchronized with fEntriesSynchronizer
@@ -194,6 +237,62 @@ public class PluginModelManager implements IModelProviderListener {
 	 * used to synchronize all public methods which (indirectly) use fEntries
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
+	/**
+	 * copy of fEntries published after each change, read without locking,
+	 * <code>null</code> while the table is not initialized
+	 **/
+	private volatile EntryTableSnapshot fSnapshot;
+
+	/**
+	 * An immutable copy of the master table. The active and all models are
+	 * computed when the table is published, because the model lists of the
+	 * entries are only consistent while fEntriesSynchronizer is held.
+	 */
+	private static final class EntryTableSnapshot {
+		private final Map<String, LocalModelEntry> fEntryMap;
+		private final String fSystemBundleId;
+		private final IPluginModelBase[] fActiveModels;
+		private final IPluginModelBase[] fActivePlugins;
+		private final IPluginModelBase[] fAllModels;
+		private final IPluginModelBase[] fAllPlugins;
+
+		/** Has to be called synchronized with fEntriesSynchronizer **/
+		EntryTableSnapshot(Map<String, LocalModelEntry> entries, String systemBundleId) {
+			fEntryMap = Collections.unmodifiableMap(new TreeMap<>(entries));
+			fSystemBundleId = systemBundleId;
+			fActiveModels = collectModels(ModelEntry::getActiveModels);
+			fActivePlugins = filterPlugins(fActiveModels);
+			fAllModels = collectModels(entry -> entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+					: entry.getExternalModels());
+			fAllPlugins = filterPlugins(fAllModels);
+		}
+
+		IPluginModelBase[] getActiveModels(boolean includeFragments) {
+			return (includeFragments ? fActiveModels : fActivePlugins).clone();
+		}
+
+		IPluginModelBase[] getAllModels(boolean includeFragments) {
+			return (includeFragments ? fAllModels : fAllPlugins).clone();
+		}
+
+		private IPluginModelBase[] collectModels(Function<ModelEntry, IPluginModelBase[]> entryModels) {
+			ArrayList<IPluginModelBase> result = new ArrayList<>(fEntryMap.size());
+			for (ModelEntry entry : fEntryMap.values()) {
+				Collections.addAll(result, entryModels.apply(entry));
+			}
+			return result.toArray(new IPluginModelBase[result.size()]);
+		}
+
+		private static IPluginModelBase[] filterPlugins(IPluginModelBase[] models) {
+			ArrayList<IPluginModelBase> result = new ArrayList<>(models.length);
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel) {
+					result.add(model);
+				}
+			}
+			return result.toArray(new IPluginModelBase[result.size()]);
+		}
+	}
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
@@ -284,6 +383,8 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 		}
 
+		publishEntryTable();
+
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
 			// Otherwise, the state is in a good resolved state
@@ -391,6 +492,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param delta	the delta from the resolver State.
 	 */
 	private void fireStateDelta(StateDelta delta) {
+		DependencyManager.stateResolved(delta);
 		if (fStateListeners != null) {
 			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
 			while (li.hasNext()) {
@@ -405,6 +507,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param newState	the new PDEState.
 	 */
 	private void fireStateChanged(PDEState newState) {
+		DependencyManager.stateResolved(null);
 		if (fStateListeners != null) {
 			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
 			while (li.hasNext()) {
@@ -503,15 +606,177 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Updates the models to the bundles of the reloaded target. If only a few
+	 * target bundles changed, only these are removed from or added to the
+	 * existing models and state, otherwise all models are recreated.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
+			if (fEntries != null && reloadTargetIncrementally(monitor)) {
+				return;
+			}
 			fEntries = null;
+			fSnapshot = null;
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Applies the difference between the bundles of the previous and the
+	 * reloaded target to the existing model table and state. Has to be called
+	 * synchronized with fEntriesSynchronizer.
+	 *
+	 * @return <code>true</code> if the models are up to date,
+	 *         <code>false</code> if they have to be recreated
+	 */
+	private boolean reloadTargetIncrementally(IProgressMonitor monitor) {
+		if (!Boolean.parseBoolean(System.getProperty("pde.incrementalTargetReload", "true")) //$NON-NLS-1$ //$NON-NLS-2$
+				|| fState == null || fTargetStamps == null || !getTargetEnvironment().equals(fTargetEnvironment)) {
+			return false;
+		}
+		try {
+			ITargetDefinition unresolvedRepoBasedtarget = TargetPlatformHelper.getUnresolvedRepositoryBasedWorkspaceTarget();
+			if (unresolvedRepoBasedtarget != null && !P2TargetUtils.isProfileValid(unresolvedRepoBasedtarget)) {
+				return false;
+			}
+		} catch (CoreException e) {
+			return false;
+		}
+
+		SubMonitor subMon = SubMonitor.convert(monitor, PDECoreMessages.PluginModelManager_InitializingPluginModels, 100);
+		long startTime = System.currentTimeMillis();
+		URI[] externalUris = getExternalBundles(subMon.split(80));
+		if (subMon.isCanceled()) {
+			return false;
+		}
+
+		// a bundle that changed at the same location is removed and added again
+		Map<URI, BundleStamp> stamps = getTargetStamps(externalUris);
+		List<URI> added = new ArrayList<>();
+		stamps.forEach((uri, stamp) -> {
+			if (!stamp.equals(fTargetStamps.get(uri))) {
+				added.add(uri);
+			}
+		});
+		Set<String> removedLocations = new HashSet<>();
+		fTargetStamps.forEach((uri, stamp) -> {
+			if (!stamp.equals(stamps.get(uri))) {
+				removedLocations.add(getLocation(uri));
+			}
+		});
+		if (added.size() + removedLocations.size() > Math.max(MAX_INCREMENTAL_TARGET_CHANGES, stamps.size() / 4)) {
+			// recreating the models is cheaper
+			return false;
+		}
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (IPluginModelBase model : fState.getTargetModels()) {
+			String location = model.getInstallLocation();
+			if (location != null && removedLocations.contains(new File(location).getAbsolutePath())) {
+				if (fState.getSystemBundle().equals(model.getPluginBase().getId())) {
+					// the platform properties depend on the system bundle
+					return false;
+				}
+				removed.add(model);
+			}
+		}
+
+		PluginModelDelta delta = new PluginModelDelta();
+		Set<String> changedBSNs = new HashSet<>();
+		for (IPluginModelBase model : removed) {
+			String id = model.getPluginBase().getId();
+			if (id != null) {
+				handleRemove(id, model, delta);
+				changedBSNs.add(id);
+			}
+		}
+		fState.removeTargetModels(removed);
+		IPluginModelBase[] addedModels = fState.addTargetBundles(added.toArray(URI[]::new), subMon.split(10));
+		for (IPluginModelBase model : addedModels) {
+			String id = model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			LocalModelEntry entry = fEntries.get(id);
+			if (entry == null) {
+				entry = new LocalModelEntry(id);
+				fEntries.put(id, entry);
+				delta.addEntry(entry, PluginModelDelta.ADDED);
+			} else {
+				delta.addEntry(entry, PluginModelDelta.CHANGED);
+			}
+			entry.addModel(model);
+			changedBSNs.add(id);
+		}
+		// workspace plug-ins keep replacing their new target counterparts,
+		// the workspace bundles themselves are already in the state
+		boolean preferWorkspaceBundle = PDECore.getDefault().getPreferencesManager()
+				.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		for (IPluginModelBase model : addedModels) {
+			String id = model.getPluginBase().getId();
+			LocalModelEntry entry = id == null ? null : fEntries.get(id);
+			if (entry != null && entry.hasWorkspaceModels()) {
+				overrideTargetBundle(model, preferWorkspaceBundle);
+			}
+		}
+		fExternalManager.setModels(fState.getTargetModels());
+		publishEntryTable();
+		fTargetStamps = stamps;
+		saveExternalPluginList(externalUris);
+
+		if (!changedBSNs.isEmpty()) {
+			// resolve the changed bundles, in case there are multiple versions of them
+			StateDelta stateDelta = fState.resolveState(changedBSNs.toArray(new String[changedBSNs.size()]));
+			// flush the extension registry cache since the target models have changed
+			PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+			// only update the classpath of the plug-ins affected by the changes
+			updateAffectedEntries(stateDelta);
+			fireStateDelta(stateDelta);
+			fireDelta(delta);
+		}
+		subMon.split(10);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target reloaded incrementally, " + added.size() + " bundles added, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ removed.size() + " removed in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Number of target bundle changes that are always applied incrementally,
+	 * more changes recreate the models if they affect more than a quarter of
+	 * the target
+	 */
+	private static final int MAX_INCREMENTAL_TARGET_CHANGES = 64;
+
+	/**
+	 * The size and modification time of a target bundle, or of the manifest
+	 * of a bundle directory
+	 */
+	private record BundleStamp(long size, long lastModified) {
+	}
+
+	private static Map<URI, BundleStamp> getTargetStamps(URI[] uris) {
+		Map<URI, BundleStamp> stamps = new LinkedHashMap<>();
+		for (URI uri : uris) {
+			File file = new File(getLocation(uri));
+			if (file.isDirectory()) {
+				file = new File(file, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR);
+			}
+			stamps.put(uri, new BundleStamp(file.length(), file.lastModified()));
+		}
+		return stamps;
+	}
+
+	private static String getLocation(URI uri) {
+		IPath path = URIUtil.toPath(uri);
+		return path != null ? path.toFile().getAbsolutePath() : uri.toString();
+	}
+
+	private static List<String> getTargetEnvironment() {
+		return Arrays.asList(TargetPlatform.getOS(), TargetPlatform.getWS(), TargetPlatform.getOSArch(),
+				TargetPlatform.getNL());
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -524,6 +789,29 @@ public class PluginModelManager implements IModelProviderListener {
 		return fEntries;
 	}
 
+	/**
+	 * Publishes the current master table to the readers that do not lock. Has
+	 * to be called synchronized with fEntriesSynchronizer after each change
+	 * of the table.
+	 */
+	private void publishEntryTable() {
+		fSnapshot = fEntries == null ? null : new EntryTableSnapshot(fEntries, fState.getSystemBundle());
+	}
+
+	/**
+	 * Returns the published master table, initializing it if necessary
+	 */
+	private EntryTableSnapshot getSnapshot() {
+		EntryTableSnapshot snapshot = fSnapshot;
+		if (snapshot == null) {
+			synchronized (fEntriesSynchronizer) {
+				initializeTable(null);
+				snapshot = fSnapshot;
+			}
+		}
+		return snapshot;
+	}
+
 	/** Has to be called synchronized with fEntriesSynchronizer **/
 	private void initializeTable(IProgressMonitor monitor) {
 		if (fEntries != null) {
@@ -557,7 +845,9 @@ public class PluginModelManager implements IModelProviderListener {
 			//set empty fState, fExternalManager, fEntries- scheduling target platform resolve
 			fState = new PDEState(new URI[0], true, true, subMon);
 			fExternalManager.setModels(new IPluginModelBase[0]);
+			fTargetStamps = null;
 			fEntries = entries;
+			publishEntryTable();
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
 			return;
 		}
@@ -607,7 +897,12 @@ public class PluginModelManager implements IModelProviderListener {
 		fState.resolveState(true);
 		subMon.split(5);
 
+		// remember the target bundles to reload the target incrementally
+		fTargetStamps = fCancelled ? null : getTargetStamps(externalUris);
+		fTargetEnvironment = getTargetEnvironment();
+
 		fEntries = entries;
+		publishEntryTable();
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
@@ -651,6 +946,7 @@ public class PluginModelManager implements IModelProviderListener {
 		if (target == null) {
 			return new URI[0];
 		}
+		watchTargetDirectories(target);
 
 		// Log any known issues with the target platform to warn user
 		if (target.isResolved()) {
@@ -681,6 +977,53 @@ public class PluginModelManager implements IModelProviderListener {
 
 	}
 
+	/**
+	 * Watches the resolved directory locations of the given target if enabled,
+	 * and stops watching the directories that are no longer part of it
+	 *
+	 * @param target the resolved workspace target
+	 */
+	private void watchTargetDirectories(ITargetDefinition target) {
+		if (!WATCH_TARGET_DIRECTORIES) {
+			return;
+		}
+		Set<DirectoryBundleContainer> directories = Collections.newSetFromMap(new IdentityHashMap<>());
+		ITargetLocation[] locations = target.getTargetLocations();
+		if (locations != null) {
+			for (ITargetLocation location : locations) {
+				if (location instanceof DirectoryBundleContainer directory && directory.isResolved()) {
+					directories.add(directory);
+				}
+			}
+		}
+		synchronized (fWatchedDirectories) {
+			for (Iterator<DirectoryBundleContainer> iterator = fWatchedDirectories.iterator(); iterator.hasNext();) {
+				DirectoryBundleContainer directory = iterator.next();
+				if (!directories.contains(directory)) {
+					directory.stopWatching();
+					iterator.remove();
+				}
+			}
+			for (DirectoryBundleContainer directory : directories) {
+				if (fWatchedDirectories.contains(directory)) {
+					continue;
+				}
+				try {
+					directory.startWatching(delta -> {
+						if (PDECore.DEBUG_MODEL) {
+							System.out.println("Target directory changed, " + delta.added().size() + " bundles added, " //$NON-NLS-1$ //$NON-NLS-2$
+									+ delta.removed().size() + " removed"); //$NON-NLS-1$
+						}
+						fTargetDirectoryJob.schedule();
+					});
+					fWatchedDirectories.add(directory);
+				} catch (CoreException e) {
+					PDECore.log(e);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Adds the given models to the corresponding ModelEntry in the master table
 	 *
@@ -724,11 +1067,7 @@ public class PluginModelManager implements IModelProviderListener {
 		ModelEntry entry = entries.get(id);
 		if (entry != null) {
 			for (IPluginModelBase externalModel : entry.getExternalModels()) {
-				if (preferWorkspaceBundle) {
-					fState.removeBundleDescription(externalModel.getBundleDescription());
-				} else {
-					fState.updateBundleDescription(externalModel.getBundleDescription());
-				}
+				overrideTargetBundle(externalModel, preferWorkspaceBundle);
 			}
 		}
 
@@ -754,6 +1093,23 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Removes the given target model from the state if workspace plug-ins
+	 * override the target, or updates it otherwise, because a workspace
+	 * plug-in with the same id is in the state
+	 *
+	 * @param externalModel the target model
+	 * @param preferWorkspaceBundle whether workspace plug-ins override the
+	 *            target
+	 */
+	private void overrideTargetBundle(IPluginModelBase externalModel, boolean preferWorkspaceBundle) {
+		if (preferWorkspaceBundle) {
+			fState.removeBundleDescription(externalModel.getBundleDescription());
+		} else {
+			fState.updateBundleDescription(externalModel.getBundleDescription());
+		}
+	}
+
 	// Cannot directly call ClasspathUtilCore.isPatchFragment(BundleDescription) since it would cause a loop in our initialization.
 	private boolean isPatchFragment(Map<String, LocalModelEntry> entries, BundleDescription desc) {
 		ModelEntry entry = entries.get(desc.getSymbolicName());
@@ -968,7 +1324,7 @@ public class PluginModelManager implements IModelProviderListener {
 				// description from the state
 				fState.removeBundleDescription(model.getBundleDescription());
 			}
-			delta.addEntry(findEntry(oldID), PluginModelDelta.CHANGED);
+			delta.addEntry(getEntryTable().get(oldID), PluginModelDelta.CHANGED);
 		} else {
 			// if the symbolic name of the bundle has completely changed,
 			// remove the model from the old entry, and add the model to the new entry
@@ -985,12 +1341,11 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
-			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
+		EntryTableSnapshot snapshot = getSnapshot();
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = snapshot.fSystemBundleId;
 		}
+		return id == null ? null : snapshot.fEntryMap.get(id);
 	}
 
 	/**
@@ -1085,21 +1440,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
-				}
-			}
-			return result.toArray(new IPluginModelBase[result.size()]);
-		}
+		return getSnapshot().getActiveModels(includeFragments);
 	}
 
 	/**
@@ -1139,22 +1480,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
-				}
-			}
-			return result.toArray(new IPluginModelBase[result.size()]);
-		}
+		return getSnapshot().getAllModels(includeFragments);
 	}
 
 	/**
@@ -1217,6 +1543,11 @@ public class PluginModelManager implements IModelProviderListener {
 	 * Perform cleanup upon shutting down
 	 */
 	protected void shutdown() {
+		synchronized (fWatchedDirectories) {
+			fWatchedDirectories.forEach(DirectoryBundleContainer::stopWatching);
+			fWatchedDirectories.clear();
+		}
+		fTargetDirectoryJob.cancel();
 		fWorkspaceManager.shutdown();
 		fExternalManager.shutdown();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,10 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +32,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -40,7 +43,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
@@ -50,6 +55,7 @@ import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
@@ -82,7 +88,6 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	private final IPluginModelBase fModel;
 	private IBuild fBuild;
 
-	private List<BundleDescription> junit5RuntimeClosure;
 	private IClasspathEntry[] fEntries;
 	private boolean addImportedPackages;
 
@@ -95,6 +100,81 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 
 	private final IProject project;
 
+	/**
+	 * Results of state queries that do not depend on the project the
+	 * container is computed for, shared by all containers as long as the
+	 * state they were computed from does not change.
+	 */
+	private static final class StateCache {
+		private final State fState;
+		private final long fTimeStamp;
+		/**
+		 * Visible packages of a bundle, grouped by exporter
+		 */
+		private final Map<BundleDescription, Map<BundleDescription, List<Rule>>> fVisiblePackages = new ConcurrentHashMap<>();
+		/**
+		 * A bundle and the bundles whose packages it re-exports via
+		 * Require-Bundle
+		 */
+		private final Map<BundleDescription, List<BundleDescription>> fReexportClosures = new ConcurrentHashMap<>();
+		/**
+		 * Access rule path of an exported package name
+		 */
+		private final Map<String, IPath> fPackagePaths = new ConcurrentHashMap<>();
+		private volatile List<BundleDescription> fJunit5RuntimeClosure;
+
+		private StateCache(State state) {
+			fState = state;
+			fTimeStamp = state == null ? -1 : state.getTimeStamp();
+		}
+
+		private boolean isValid(State state) {
+			return state != null && fState == state && fTimeStamp == state.getTimeStamp();
+		}
+	}
+
+	private static volatile StateCache fStateCache;
+
+	/**
+	 * Returns the cache for the given state, replacing the shared cache if the
+	 * state changed since it was created
+	 */
+	private static StateCache getStateCache(State state) {
+		StateCache cache = fStateCache;
+		if (cache == null || !cache.isValid(state)) {
+			cache = new StateCache(state);
+			if (state != null) {
+				fStateCache = cache;
+			}
+		}
+		return cache;
+	}
+
+	private static State getState(BundleDescription desc) {
+		State state = desc == null ? null : desc.getContainingState();
+		return state != null ? state : TargetPlatformHelper.getState();
+	}
+
+	/**
+	 * Computes the entries of the given containers in one pass before they are
+	 * handed to JDT, so the queries for bundles shared by many projects are
+	 * answered from the cache of the current state.
+	 *
+	 * @param containers
+	 *            the containers to compute, other containers are ignored
+	 * @param monitor
+	 *            progress monitor, may be <code>null</code>
+	 */
+	static void computeClasspathEntries(IClasspathContainer[] containers, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, containers.length);
+		for (IClasspathContainer container : containers) {
+			if (container instanceof RequiredPluginsClasspathContainer required) {
+				required.getClasspathEntries();
+			}
+			subMonitor.worked(1);
+		}
+	}
+
 	/**
 	 * Constructor for RequiredPluginsClasspathContainer.
 	 */
@@ -314,16 +394,24 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		StateCache cache = getStateCache(getState(desc));
+		Map<BundleDescription, List<Rule>> visiblePackages = cache.fVisiblePackages.get(desc);
+		if (visiblePackages == null) {
+			visiblePackages = new HashMap<>();
+			StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
+			addVisiblePackagesFromState(cache, helper, desc, visiblePackages);
+			if (desc.getHost() != null) {
+				addVisiblePackagesFromState(cache, helper, (BundleDescription) desc.getHost().getSupplier(),
+						visiblePackages);
+			}
+			// shared between containers, the map and its rules are only read
+			visiblePackages = Collections.unmodifiableMap(visiblePackages);
+			cache.fVisiblePackages.put(desc, visiblePackages);
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
+	private void addVisiblePackagesFromState(StateCache cache, StateHelper helper, BundleDescription desc,
 			Map<BundleDescription, List<Rule>> visiblePackages) {
 		if (desc == null) {
 			return;
@@ -335,17 +423,18 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 				continue;
 			}
 			List<Rule> list = visiblePackages.computeIfAbsent(exporter, e -> new ArrayList<>());
-			Rule rule = getRule(helper, desc, export);
+			Rule rule = getRule(cache, helper, desc, export);
 			if (!list.contains(rule)) {
 				list.add(rule);
 			}
 		}
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+	private Rule getRule(StateCache cache, StateHelper helper, BundleDescription desc,
+			ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IPath path = cache.fPackagePaths.computeIfAbsent(export.getName(),
+				name -> name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		return new Rule(path, discouraged);
 	}
 
@@ -557,8 +646,11 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 			return;
 		}
 
+		StateCache cache = getStateCache(getState(fModel.getBundleDescription()));
+		List<BundleDescription> junit5RuntimeClosure = cache.fJunit5RuntimeClosure;
 		if (junit5RuntimeClosure == null) {
 			junit5RuntimeClosure = collectJunit5RuntimeRequirements();
+			cache.fJunit5RuntimeClosure = junit5RuntimeClosure;
 		}
 
 		String id = fModel.getPluginBase().getId();
@@ -625,10 +717,9 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	protected final void findExportedPackages(BundleDescription desc, BundleDescription projectDesc,
 			Map<BundleDescription, List<Rule>> map) {
 		if (desc != null) {
-			Queue<BundleDescription> queue = new ArrayDeque<>();
-			queue.add(desc);
-			while (!queue.isEmpty()) {
-				BundleDescription bdesc = queue.remove();
+			StateCache cache = getStateCache(getState(desc));
+			for (BundleDescription bdesc : cache.fReexportClosures.computeIfAbsent(desc,
+					RequiredPluginsClasspathContainer::computeReexportClosure)) {
 				ExportPackageDescription[] expkgs = bdesc.getExportPackages();
 				List<Rule> rules = new ArrayList<>();
 				for (ExportPackageDescription expkg : expkgs) {
@@ -637,20 +728,36 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 					rules.add(new Rule(path, discouraged));
 				}
 				map.put(bdesc, rules);
+			}
+		}
+	}
 
-				// Look at re-exported Require-Bundles for any other exported
-				// packages
-				BundleSpecification[] requiredBundles = bdesc.getRequiredBundles();
-				for (BundleSpecification requiredBundle : requiredBundles) {
-					if (requiredBundle.isExported()) {
-						BaseDescription bd = requiredBundle.getSupplier();
-						if (bd instanceof BundleDescription description) {
-							queue.add(description);
-						}
+	/**
+	 * @return the given bundle followed by the bundles it re-exports,
+	 *         directly or through other re-exported bundles
+	 */
+	private static List<BundleDescription> computeReexportClosure(BundleDescription desc) {
+		Set<BundleDescription> closure = new LinkedHashSet<>();
+		Queue<BundleDescription> queue = new ArrayDeque<>();
+		queue.add(desc);
+		while (!queue.isEmpty()) {
+			BundleDescription bdesc = queue.remove();
+			if (!closure.add(bdesc)) {
+				continue;
+			}
+			// Look at re-exported Require-Bundles for any other exported
+			// packages
+			BundleSpecification[] requiredBundles = bdesc.getRequiredBundles();
+			for (BundleSpecification requiredBundle : requiredBundles) {
+				if (requiredBundle.isExported()) {
+					BaseDescription bd = requiredBundle.getSupplier();
+					if (bd instanceof BundleDescription description) {
+						queue.add(description);
 					}
 				}
 			}
 		}
+		return List.copyOf(closure);
 	}
 
 	private boolean restrictPackage(BundleDescription desc, ExportPackageDescription pkg) {
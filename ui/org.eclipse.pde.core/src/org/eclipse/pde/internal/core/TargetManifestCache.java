@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Persistent cache of the manifest headers of target bundles.
+ * <p>
+ * Entries are keyed by the bundle location and fingerprinted with the size and
+ * last modification time of the bundle jar, or of the manifest file of a
+ * bundle directory. Creating the target state only reads the manifests of new
+ * or changed bundles; the auxiliary data of the state is derived from the
+ * cached headers like from freshly read ones.
+ * </p>
+ * <p>
+ * The cache is kept in a single binary file in the PDE state location. Set the
+ * {@value #ENABLED_PROPERTY} system property to <code>false</code> to always
+ * read the manifests from the bundles.
+ * </p>
+ */
+public class TargetManifestCache {
+
+	/**
+	 * System property to disable the cache
+	 */
+	public static final String ENABLED_PROPERTY = "pde.targetManifestCache"; //$NON-NLS-1$
+
+	private static final String CACHE_FILE = ".target_manifests"; //$NON-NLS-1$
+
+	/**
+	 * Version of the cache file format, bump when the format changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The headers of a bundle manifest, valid as long as the fingerprinted
+	 * file has the given size and last modification time
+	 */
+	private record Entry(long size, long lastModified, Map<String, String> headers) {
+	}
+
+	private final Path fFile;
+
+	/**
+	 * Bundle location to cached manifest
+	 */
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Locations looked up since the cache was loaded
+	 */
+	private final Set<String> fUsed = ConcurrentHashMap.newKeySet();
+
+	private final AtomicInteger fHits = new AtomicInteger();
+
+	private volatile boolean fChanged;
+
+	private TargetManifestCache(Path file) {
+		fFile = file;
+	}
+
+	/**
+	 * @return whether the cache is enabled
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, Boolean.TRUE.toString()));
+	}
+
+	/**
+	 * @return the cache file in the PDE state location
+	 */
+	public static Path getDefaultFile() {
+		return PDECore.getDefault().getStateLocation().append(CACHE_FILE).toPath();
+	}
+
+	/**
+	 * Loads the cache from the given file. A missing, outdated or corrupt file
+	 * results in an empty cache.
+	 *
+	 * @param file the cache file
+	 * @return the cache
+	 */
+	public static TargetManifestCache load(Path file) {
+		TargetManifestCache cache = new TargetManifestCache(file);
+		if (!Files.isRegularFile(file)) {
+			return cache;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return cache;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = readString(in);
+				long size = in.readLong();
+				long lastModified = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = new HashMap<>(headerCount * 4 / 3 + 1);
+				for (int j = 0; j < headerCount; j++) {
+					headers.put(readString(in), readString(in));
+				}
+				cache.fEntries.put(location, new Entry(size, lastModified, headers));
+			}
+		} catch (IOException e) {
+			cache.fEntries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Unable to read target manifest cache " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the manifest headers of the given bundle, from the cache if the
+	 * bundle did not change since it was cached. May be called concurrently.
+	 *
+	 * @param bundleLocation the bundle jar or directory
+	 * @return a modifiable map of the manifest headers
+	 * @throws CoreException if the manifest cannot be read
+	 * @see ManifestUtils#loadManifest(File)
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String location = bundleLocation.getAbsolutePath();
+		File fingerprint = bundleLocation.isDirectory() ? new File(bundleLocation, JarFile.MANIFEST_NAME) : bundleLocation;
+		long size = fingerprint.length();
+		long lastModified = fingerprint.lastModified();
+		fUsed.add(location);
+		Entry entry = fEntries.get(location);
+		if (entry != null && lastModified != 0 && entry.size() == size && entry.lastModified() == lastModified) {
+			fHits.incrementAndGet();
+			// header names are case insensitive, like in the map returned by
+			// ManifestUtils.loadManifest
+			Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			headers.putAll(entry.headers());
+			return headers;
+		}
+		Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+		if (lastModified != 0) {
+			fEntries.put(location, new Entry(size, lastModified, new HashMap<>(manifest)));
+			fChanged = true;
+		}
+		return manifest;
+	}
+
+	/**
+	 * @return the number of manifests served from the cache since it was
+	 *         loaded
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * Saves the cache if it changed. Entries of bundles that were not looked
+	 * up and no longer exist are dropped.
+	 */
+	public void save() {
+		if (fEntries.keySet().removeIf(location -> !fUsed.contains(location) && !new File(location).exists())) {
+			fChanged = true;
+		}
+		if (!fChanged) {
+			return;
+		}
+		try {
+			Files.createDirectories(fFile.getParent());
+			Path tmp = Files.createTempFile(fFile.getParent(), fFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+					out.writeInt(VERSION);
+					Map<String, Entry> entries = new HashMap<>(fEntries);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> e : entries.entrySet()) {
+						Entry entry = e.getValue();
+						writeString(out, e.getKey());
+						out.writeLong(entry.size());
+						out.writeLong(entry.lastModified());
+						out.writeInt(entry.headers().size());
+						for (Map.Entry<String, String> header : entry.headers().entrySet()) {
+							writeString(out, header.getKey());
+							writeString(out, header.getValue());
+						}
+					}
+				}
+				Files.move(tmp, fFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				fChanged = false;
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			// the cache is only an optimization, the manifests are read again
+			// next time
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Unable to write target manifest cache " + fFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Writes a string of any length, header values like Export-Package may
+	 * exceed the limit of {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2022 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
@@ -127,15 +128,33 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 
 		ensureModelsMapCreated();
 
+		long start = System.currentTimeMillis();
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
-		for (IProject project : projects) {
-			if (isInterestingProject(project)) {
-				createModel(project, false);
-			}
+		List<IProject> interesting = Arrays.stream(projects).filter(this::isInterestingProject).toList();
+		createModels(interesting);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to create " + getModelsMap().size() + " models of " + interesting.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " projects in " + getClass().getSimpleName() + ": " + (System.currentTimeMillis() - start) //$NON-NLS-1$ //$NON-NLS-2$
+					+ " ms"); //$NON-NLS-1$
 		}
 		addListeners();
 	}
 
+	/**
+	 * Creates the models of the given projects while the manager is
+	 * initialized, without notifying listeners. Subclasses may load the models
+	 * concurrently, but have to add them to the models map in the order of the
+	 * given projects.
+	 *
+	 * @param projects
+	 *            the interesting projects of the workspace
+	 */
+	protected void createModels(List<IProject> projects) {
+		for (IProject project : projects) {
+			createModel(project, false);
+		}
+	}
+
 	protected abstract boolean isInterestingProject(IProject project);
 
 	protected abstract void createModel(IProject project, boolean notify);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
@@ -110,6 +111,56 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 	 */
 	@Override
 	protected void createModel(IProject project, boolean notify) {
+		IPluginModelBase model = loadPluginModel(project);
+
+		if (PDEProject.getOptionsFile(project).exists()) {
+			PDECore.getDefault().getTracingOptionsManager().reset();
+		}
+
+		if (model != null) {
+			getModelsMap().put(project, model);
+			if (notify) {
+				addChange(model, IModelProviderEvent.MODELS_ADDED);
+			}
+		}
+	}
+
+	/**
+	 * Loads the models of all plug-in projects in parallel. Parsing the
+	 * manifests and extension files dominates the initialization and only reads
+	 * the files of each project, so no scheduling rule is acquired that could
+	 * conflict with the rule held by the initializing thread. The models are
+	 * added in the order of the projects like when they are created one by one.
+	 */
+	@Override
+	protected void createModels(List<IProject> projects) {
+		long start = System.currentTimeMillis();
+		IPluginModelBase[] models = projects.parallelStream().map(this::loadPluginModel)
+				.toArray(IPluginModelBase[]::new);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to load " + projects.size() + " workspace plug-in models: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+		boolean hasOptionsFile = false;
+		for (int i = 0; i < models.length; i++) {
+			IProject project = projects.get(i);
+			hasOptionsFile |= PDEProject.getOptionsFile(project).exists();
+			if (models[i] != null) {
+				getModelsMap().put(project, models[i]);
+			}
+		}
+		if (hasOptionsFile) {
+			PDECore.getDefault().getTracingOptionsManager().reset();
+		}
+	}
+
+	/**
+	 * Loads the model of the given project without registering it.
+	 *
+	 * @return the loaded model or <code>null</code> if the project has neither
+	 *         a manifest nor a plugin.xml/fragment.xml file
+	 */
+	private IPluginModelBase loadPluginModel(IProject project) {
 		IPluginModelBase model = null;
 		IFile manifest = PDEProject.getManifest(project);
 		IFile pluginXml = PDEProject.getPluginXml(project);
@@ -142,17 +193,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 			model = new WorkspaceFragmentModel(fragmentXml, true);
 			loadModel(model, false);
 		}
-
-		if (PDEProject.getOptionsFile(project).exists()) {
-			PDECore.getDefault().getTracingOptionsManager().reset();
-		}
-
-		if (model != null) {
-			getModelsMap().put(project, model);
-			if (notify) {
-				addChange(model, IModelProviderEvent.MODELS_ADDED);
-			}
-		}
+		return model;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2020 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,13 @@ public abstract class ErrorReporter {
 
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
+		applyMarkers();
+	}
+
+	/**
+	 * Updates the markers of the validated file with the reported problems
+	 */
+	void applyMarkers() {
 		fErrorReporter.applyMarkers();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
@@ -29,8 +31,10 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -64,6 +68,16 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/*
+	 * Validation only reads the PDE state and the files of the built project,
+	 * specify VM property {@code -Dpde.parallelValidation=true} to validate
+	 * the files of a project concurrently and to only lock the built project,
+	 * so that projects can be validated in parallel if the workspace allows
+	 * concurrent builds. The property is read on every build so that it can
+	 * be toggled without a restart.
+	 */
+	private static final String PARALLEL_VALIDATION = "pde.parallelValidation"; //$NON-NLS-1$
+
 	private final ClassChangeVisitor fClassFileVisitor = new ClassChangeVisitor();
 
 	static class ClassChangeVisitor implements IResourceDeltaVisitor {
@@ -256,6 +270,10 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		if ((type & STRUCTURE) != 0) {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
+		if (Boolean.getBoolean(PARALLEL_VALIDATION)) {
+			validateFilesConcurrently(type, subMonitor);
+			return;
+		}
 
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
 			IProject project = getProject();
@@ -327,23 +345,8 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
 		monitor.subTask(message);
 
-		IFile bundleManifest = PDEProject.getManifest(getProject());
-		XMLErrorReporter reporter = null;
-		BundleErrorReporter bundleReporter = null;
-		if (bundleManifest.exists()) {
-			if ((type & EXTENSIONS) != 0) {
-				reporter = new ExtensionsErrorReporter(file);
-			}
-			if ((type & MANIFEST) != 0) {
-				bundleReporter = new BundleErrorReporter(bundleManifest);
-			}
-		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
-			if (file.equals(PDEProject.getPluginXml(getProject()))) {
-				reporter = new PluginErrorReporter(file);
-			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
-				reporter = new FragmentErrorReporter(file);
-			}
-		}
+		XMLErrorReporter reporter = createXMLReporter(file, type);
+		BundleErrorReporter bundleReporter = createBundleReporter(type);
 		if (reporter != null) {
 			DefaultSAXParser.parse(file, reporter);
 			reporter.validateContent(monitor);
@@ -356,6 +359,94 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		monitor.done();
 	}
 
+	private XMLErrorReporter createXMLReporter(IFile file, int type) {
+		if (PDEProject.getManifest(getProject()).exists()) {
+			if ((type & EXTENSIONS) != 0) {
+				return new ExtensionsErrorReporter(file);
+			}
+		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
+			if (file.equals(PDEProject.getPluginXml(getProject()))) {
+				return new PluginErrorReporter(file);
+			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
+				return new FragmentErrorReporter(file);
+			}
+		}
+		return null;
+	}
+
+	private BundleErrorReporter createBundleReporter(int type) {
+		IFile bundleManifest = PDEProject.getManifest(getProject());
+		if ((type & MANIFEST) != 0 && bundleManifest.exists()) {
+			return new BundleErrorReporter(bundleManifest);
+		}
+		return null;
+	}
+
+	/**
+	 * Validates the manifest, plug-in XML and build.properties files of the
+	 * project concurrently. The reporters only read the files and the PDE
+	 * state, their markers are applied in a single workspace operation after
+	 * all files have been validated.
+	 */
+	private void validateFilesConcurrently(int type, SubMonitor monitor) {
+		IProject project = getProject();
+		List<Runnable> validations = new ArrayList<>(3);
+		List<Runnable> markerUpdates = new ArrayList<>(3);
+		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
+			IFile file = PDEProject.getPluginXml(project);
+			if (!file.exists()) {
+				file = PDEProject.getFragmentXml(project);
+			}
+			BundleErrorReporter bundleReporter = null;
+			if (file.exists()) {
+				IFile xmlFile = file;
+				XMLErrorReporter reporter = createXMLReporter(file, type);
+				if (reporter != null) {
+					validations.add(() -> {
+						DefaultSAXParser.parse(xmlFile, reporter);
+						reporter.validate(monitor);
+					});
+					markerUpdates.add(reporter::applyMarkers);
+				}
+				bundleReporter = createBundleReporter(type);
+			} else if ((type & MANIFEST) != 0) {
+				IFile manifestFile = PDEProject.getManifest(project);
+				if (manifestFile.exists()) {
+					bundleReporter = new BundleErrorReporter(manifestFile);
+				}
+			}
+			if (bundleReporter != null) {
+				BundleErrorReporter reporter = bundleReporter;
+				validations.add(() -> reporter.validate(monitor));
+				markerUpdates.add(reporter::applyMarkers);
+			}
+		}
+		if ((type & BUILD) != 0) {
+			IFile file = PDEProject.getBuildProperties(project);
+			if (file.exists()) {
+				BuildErrorReporter reporter = new BuildErrorReporter(file);
+				validations.add(() -> reporter.validate(monitor));
+				markerUpdates.add(reporter::applyMarkers);
+			}
+		}
+		if (validations.isEmpty() || monitor.isCanceled()) {
+			return;
+		}
+		monitor.subTask(NLS.bind(PDECoreMessages.Builders_verifying, project.getFullPath().toString()));
+		validations.parallelStream().forEach(Runnable::run);
+		if (monitor.isCanceled()) {
+			return;
+		}
+		monitor.subTask(PDECoreMessages.Builders_updating);
+		ICoreRunnable applyMarkers = m -> markerUpdates.forEach(Runnable::run);
+		try {
+			project.getWorkspace().run(applyMarkers, project, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			PDECore.log(e);
+		}
+		monitor.setWorkRemaining(0);
+	}
+
 	private void validateBuildProperties(IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
@@ -475,6 +566,9 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
+		if (Boolean.getBoolean(PARALLEL_VALIDATION)) {
+			return getProject();
+		}
 		return new MultiRule(Arrays.stream(getProject().getWorkspace().getRoot().getProjects())
 				.filter(PDEBuilderHelper::isPDEProject).toArray(ISchedulingRule[]::new));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,15 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	static class ElementData {
 		int offset;
+		/**
+		 * Offset after the start tag, or -1 if the start tag could not be
+		 * located exactly
+		 */
+		int startTagEnd = -1;
+		/**
+		 * Offset of the end tag, or -1 for an empty-element tag
+		 */
+		int endTagOffset = -1;
 		boolean fErrorNode;
 
 		public ElementData(int offset) {
@@ -89,6 +98,12 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	private FindReplaceDocumentAdapter fFindReplaceAdapter;
 
+	/**
+	 * Character data reported since the last element event, appended as a
+	 * single text node
+	 */
+	private final StringBuilder fText = new StringBuilder();
+
 	private double fSchemaVersion = 2.1;
 
 	public XMLErrorReporter(IFile file) {
@@ -128,12 +143,14 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 	@Override
 	public void error(SAXParseException exception) throws SAXException {
 		addMarker(exception, IMarker.SEVERITY_ERROR);
+		flushText();
 		generateErrorElementHierarchy();
 	}
 
 	@Override
 	public void fatalError(SAXParseException exception) throws SAXException {
 		addMarker(exception, IMarker.SEVERITY_ERROR);
+		flushText();
 		generateErrorElementHierarchy();
 	}
 
@@ -221,6 +238,7 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+		flushText();
 		Element element = fXMLDocument.createElement(qName);
 		for (int i = 0; i < attributes.getLength(); i++) {
 			element.setAttribute(attributes.getQName(i), attributes.getValue(i));
@@ -234,7 +252,7 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fElementStack.push(element);
 		try {
 			if (fTextDocument != null) {
-				fOffsetTable.put(element, new ElementData(getStartOffset(qName)));
+				fOffsetTable.put(element, createElementData(qName));
 			}
 		} catch (BadLocationException e) {
 		}
@@ -242,7 +260,69 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		fElementStack.pop();
+		flushText();
+		Element element = fElementStack.pop();
+		ElementData data = fOffsetTable.get(element);
+		if (data == null || data.startTagEnd == -1) {
+			return;
+		}
+		try {
+			if (fTextDocument.getChar(data.startTagEnd - 2) == '/') {
+				// empty-element tag
+				return;
+			}
+			int end = getLocatorOffset();
+			int offset = end > data.startTagEnd ? findTagStart(end) : -1;
+			if (offset >= data.startTagEnd && fTextDocument.getChar(offset + 1) == '/') {
+				data.endTagOffset = offset;
+			}
+		} catch (BadLocationException e) {
+		}
+	}
+
+	/**
+	 * Locates the start tag of the element just reported by the parser. The
+	 * locator points behind the start tag and attribute values cannot contain
+	 * <code>&lt;</code>, so the tag starts at the closest preceding
+	 * <code>&lt;</code>. Falls back to searching the document text if the
+	 * locator does not match the document.
+	 */
+	private ElementData createElementData(String elementName) throws BadLocationException {
+		int end = getLocatorOffset();
+		int offset = end > 0 ? findTagStart(end) : -1;
+		if (offset != -1 && fTextDocument.get(offset + 1, end - offset - 1).startsWith(elementName)) {
+			char next = fTextDocument.getChar(offset + 1 + elementName.length());
+			if (next == '>' || next == '/' || Character.isWhitespace(next)) {
+				fHighestOffset = offset;
+				ElementData data = new ElementData(offset);
+				data.startTagEnd = end;
+				return data;
+			}
+		}
+		return new ElementData(getStartOffset(elementName));
+	}
+
+	/**
+	 * @return the document offset of the current parser position, or -1 if it
+	 *         is unknown
+	 */
+	private int getLocatorOffset() throws BadLocationException {
+		int line = fLocator.getLineNumber();
+		int column = fLocator.getColumnNumber();
+		if (line < 1 || column < 1 || line > fTextDocument.getNumberOfLines()) {
+			return -1;
+		}
+		int offset = fTextDocument.getLineOffset(line - 1) + column - 1;
+		return offset <= fTextDocument.getLength() ? offset : -1;
+	}
+
+	private int findTagStart(int end) throws BadLocationException {
+		for (int i = end - 1; i >= 0; i--) {
+			if (fTextDocument.getChar(i) == '<') {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	private void generateErrorElementHierarchy() {
@@ -256,11 +336,15 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void characters(char[] characters, int start, int length) throws SAXException {
-		StringBuilder buff = new StringBuilder();
-		for (int i = 0; i < length; i++) {
-			buff.append(characters[start + i]);
+		fText.append(characters, start, length);
+	}
+
+	private void flushText() {
+		if (fText.isEmpty()) {
+			return;
 		}
-		Text text = fXMLDocument.createTextNode(buff.toString());
+		Text text = fXMLDocument.createTextNode(fText.toString());
+		fText.setLength(0);
 		if (fRootElement == null) {
 			fXMLDocument.appendChild(text);
 		} else {
@@ -315,6 +399,57 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		return fHighestOffset;
 	}
 
+	/**
+	 * Returns the offset of the given attribute by scanning the start tag of
+	 * the element, or -1 if the attribute is not found
+	 */
+	private int getAttributeOffset(String name, ElementData data) throws BadLocationException {
+		String tag = fTextDocument.get(data.offset, data.startTagEnd - data.offset);
+		int length = tag.length();
+		int i = 1;
+		while (i < length && !isTagDelimiter(tag.charAt(i))) {
+			i++;
+		}
+		while (true) {
+			while (i < length && Character.isWhitespace(tag.charAt(i))) {
+				i++;
+			}
+			int nameStart = i;
+			while (i < length && tag.charAt(i) != '=' && !isTagDelimiter(tag.charAt(i))) {
+				i++;
+			}
+			if (i == nameStart) {
+				return -1;
+			}
+			int nameEnd = i;
+			while (i < length && Character.isWhitespace(tag.charAt(i))) {
+				i++;
+			}
+			if (i == length || tag.charAt(i) != '=') {
+				return -1;
+			}
+			i++;
+			while (i < length && Character.isWhitespace(tag.charAt(i))) {
+				i++;
+			}
+			if (i == length || (tag.charAt(i) != '"' && tag.charAt(i) != '\'')) {
+				return -1;
+			}
+			int valueEnd = tag.indexOf(tag.charAt(i), i + 1);
+			if (valueEnd == -1) {
+				return -1;
+			}
+			if (tag.regionMatches(nameStart, name, 0, name.length()) && nameEnd - nameStart == name.length()) {
+				return data.offset + nameStart;
+			}
+			i = valueEnd + 1;
+		}
+	}
+
+	private static boolean isTagDelimiter(char c) {
+		return c == '>' || c == '/' || Character.isWhitespace(c);
+	}
+
 	private int getAttributeOffset(String name, String value, int offset) throws BadLocationException {
 		String valueStr = PDEXMLHelper.getWritableAttributeString(value);
 		IRegion nameRegion = fFindReplaceAdapter.find(offset, name + "=\"" + valueStr, true, false, false, false); //$NON-NLS-1$
@@ -341,6 +476,12 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 			if (element.hasChildNodes()) {
 				return null;
 			}
+			if (data.startTagEnd != -1) {
+				if (data.endTagOffset == -1) {
+					return null;
+				}
+				return fTextDocument.get(data.startTagEnd, data.endTagOffset - data.startTagEnd).trim();
+			}
 			IRegion openElement = fFindReplaceAdapter.find(data.offset, ">", true, true, false, false); //$NON-NLS-1$
 			IRegion closeElement = fFindReplaceAdapter.find(data.offset, "</" + element.getNodeName() + ">", true, true, false, false); //$NON-NLS-1$ //$NON-NLS-2$
 			if (openElement != null && closeElement != null) {
@@ -365,7 +506,8 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		ElementData data = fOffsetTable.get(element);
 		if (data != null) {
 			try {
-				int offset = getAttributeOffset(attName, element.getAttribute(attName), data.offset);
+				int offset = data.startTagEnd != -1 ? getAttributeOffset(attName, data)
+						: getAttributeOffset(attName, element.getAttribute(attName), data.offset);
 				if (offset != -1) {
 					return fTextDocument.getLineOfOffset(offset) + 1;
 				}
@@ -377,6 +519,13 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
+		applyMarkers();
+	}
+
+	/**
+	 * Updates the markers of the validated file with the reported problems
+	 */
+	void applyMarkers() {
 		fErrorReporter.applyMarkers();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,11 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -30,35 +34,90 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.SourceLocationManager;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Cache of the abbreviated schemas of extension points and of the schemas they
+ * include.
+ * <p>
+ * The cache may be used concurrently. It is bounded by the weight of the
+ * parsed schemas, the number of their elements and attributes, and evicts the
+ * least recently used schemas first. A cached schema is loaded again when its
+ * file is modified. The URL of an extension point schema is resolved again
+ * only when the model declaring the extension point changes.
+ * </p>
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Maximum total weight of the cached schemas, about the size of the
+	 * schemas of a few hundred extension points
+	 */
+	public static final int MAX_WEIGHT = 10000;
+
+	/**
+	 * A loaded schema. For extension point schemas, the source of the
+	 * extension point the schema URL was resolved for, <code>null</code> for
+	 * included schemas.
+	 */
+	private record Entry(ISchemaDescriptor descriptor, ISchema schema, PointSource source, int weight) {
+	}
+
+	/**
+	 * The model an extension point schema URL was resolved for. Only the
+	 * values the URL depends on are kept, so that models of a reloaded target
+	 * are not referenced by the cache.
+	 */
+	private record PointSource(String location, String schema, long timeStamp) {
+		static PointSource of(IPluginExtensionPoint point) {
+			IPluginModelBase model = point.getPluginModel();
+			return new PointSource(model.getInstallLocation(), point.getSchema(), model.getTimeStamp());
+		}
+	}
+
+	/**
+	 * Extension point id or included schema URL to loaded schema, in access
+	 * order
+	 */
+	private final LinkedHashMap<String, Entry> fRegistry = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fWeight;
+
+	private final AtomicInteger fHits = new AtomicInteger();
+
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private final AtomicLong fLoadTime = new AtomicLong();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			remove(extPointID);
 			return null;
 		}
 
-		URL url = getSchemaURL(point);
+		Entry entry = get(extPointID);
+		PointSource source = PointSource.of(point);
+		URL url = entry != null && source.equals(entry.source()) ? entry.descriptor().getSchemaURL()
+				: getSchemaURL(point);
 		if (url == null) {
+			remove(extPointID);
 			return null;
 		}
-
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		if (isValid(entry, url)) {
+			fHits.incrementAndGet();
+			if (!source.equals(entry.source())) {
+				// the extension point changed but still uses the same schema
+				synchronized (fRegistry) {
+					fRegistry.replace(extPointID, entry, new Entry(entry.descriptor(), entry.schema(), source, entry.weight()));
+				}
+			}
+			return entry.schema();
 		}
-
-		return desc.getSchema(true);
+		return load(extPointID, new SchemaDescriptor(extPointID, url), source);
 	}
 
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
@@ -68,26 +127,111 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			String key = url.toString();
+			Entry entry = get(key);
+			if (isValid(entry, url)) {
+				fHits.incrementAndGet();
+				return entry.schema();
 			}
-			return desc.getSchema(true);
+			return load(key, new IncludedSchemaDescriptor(url), null);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
+	/**
+	 * Loads the schema of the given descriptor outside of the lock, so that
+	 * included schemas can be loaded while loading. If another thread cached
+	 * the same schema meanwhile, its schema is returned so that all callers
+	 * share it.
+	 */
+	private ISchema load(String key, ISchemaDescriptor desc, PointSource source) {
+		fMisses.incrementAndGet();
+		long start = System.nanoTime();
+		ISchema schema = desc.getSchema(true);
+		fLoadTime.addAndGet(System.nanoTime() - start);
+		if (schema == null) {
+			return null;
+		}
+		int weight = 1;
+		for (ISchemaElement element : schema.getElements()) {
+			weight += 1 + element.getAttributeNames().length;
+		}
+		synchronized (fRegistry) {
+			Entry existing = fRegistry.get(key);
+			if (isValid(existing, desc.getSchemaURL())) {
+				// loaded by another thread meanwhile
+				desc = existing.descriptor();
+				schema = existing.schema();
+				weight = existing.weight();
+			}
+			put(key, new Entry(desc, schema, source, weight));
+			for (Iterator<Entry> it = fRegistry.values().iterator(); fWeight > MAX_WEIGHT && it.hasNext();) {
+				Entry eldest = it.next();
+				if (eldest.schema() != schema) {
+					it.remove();
+					fWeight -= eldest.weight();
+				}
+			}
+		}
+		return schema;
+	}
+
+	private Entry get(String key) {
+		synchronized (fRegistry) {
+			return fRegistry.get(key);
+		}
+	}
+
+	private void put(String key, Entry entry) {
+		Entry previous = fRegistry.put(key, entry);
+		if (previous != null) {
+			fWeight -= previous.weight();
+		}
+		fWeight += entry.weight();
+	}
+
+	private void remove(String key) {
+		synchronized (fRegistry) {
+			Entry previous = fRegistry.remove(key);
+			if (previous != null) {
+				fWeight -= previous.weight();
 			}
 		}
-		return desc;
+	}
+
+	private boolean isValid(Entry entry, URL url) {
+		return entry != null && !hasSchemaChanged(entry.descriptor(), url);
+	}
+
+	/**
+	 * @return the number of schemas served from the cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of schemas that had to be loaded
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * @return the total time spent loading schemas in milliseconds
+	 */
+	public long getLoadTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fLoadTime.get());
+	}
+
+	/**
+	 * @return the total weight of the cached schemas
+	 */
+	public int getWeight() {
+		synchronized (fRegistry) {
+			return fWeight;
+		}
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -183,7 +327,14 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
-		fRegistry.clear();
+		synchronized (fRegistry) {
+			fRegistry.clear();
+			fWeight = 0;
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Schema registry: " + getHits() + " hits, " + getMisses() + " misses, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ getLoadTime() + " ms loading"); //$NON-NLS-1$
+		}
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,9 +47,10 @@ import org.osgi.framework.BundleException;
 public abstract class AbstractBundleContainer extends PlatformObject implements ITargetLocation {
 
 	/**
-	 * Resolved bundles or <code>null</code> if unresolved
+	 * Resolved bundles or <code>null</code> if unresolved. Volatile as
+	 * containers may update their bundles from a background thread.
 	 */
-	protected TargetBundle[] fBundles;
+	protected volatile TargetBundle[] fBundles;
 
 	/**
 	 * List of target features contained in this bundle container or <code>null</code> if unresolved
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,22 @@
 package org.eclipse.pde.internal.core.target;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.jar.JarFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -27,6 +41,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 
 /**
@@ -47,6 +62,30 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 	 */
 	private final String fPath;
 
+	/**
+	 * The bundles read from the files in the directory, with the size and
+	 * modification time of the files when they were read
+	 */
+	private final Map<File, CachedBundle> fBundleCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Watches the directory for changed bundles or <code>null</code> if not
+	 * watching
+	 */
+	private WatchService fWatchService;
+
+	/**
+	 * Time to wait for further changes before rescanning a watched directory
+	 */
+	private static final long WATCH_SETTLE_TIME = 500;
+
+	/**
+	 * The bundle read from a file or <code>null</code> if the file is not a
+	 * bundle
+	 */
+	private record CachedBundle(long size, long lastModified, TargetBundle bundle) {
+	}
+
 	/**
 	 * Constructs a directory bundle container at the given location.
 	 *
@@ -73,22 +112,181 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 	protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		File dir = getDirectory();
 		if (dir.isDirectory()) {
-			File site = getSite(dir);
+			return scanBundles(getSite(dir), monitor);
+		}
+		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
+	}
+
+	/**
+	 * Lists the bundles in the given directory, only reading the bundles that
+	 * were added or changed since the last scan
+	 */
+	private TargetBundle[] scanBundles(File site, IProgressMonitor monitor) {
+		synchronized (fBundleCache) {
 			File[] files = site.listFiles();
+			if (files == null) {
+				files = new File[0];
+			}
 			SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, files.length);
+			Set<File> existing = Set.of(files);
+			fBundleCache.keySet().retainAll(existing);
 			return Arrays.stream(files).parallel() //
 					.map(file -> {
 						localMonitor.split(1);
-						try {
-							return new TargetBundle(file);
-						} catch (CoreException e) {
-							// Ignore non-bundle files
-							return null;
-						}
+						return getBundle(file);
 					}).filter(Objects::nonNull) //
 					.toArray(TargetBundle[]::new);
 		}
-		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
+	}
+
+	/**
+	 * Returns the bundle at the given location, from the cache if the file did
+	 * not change since it was read
+	 *
+	 * @return the bundle or <code>null</code> if the file is not a bundle
+	 */
+	private TargetBundle getBundle(File file) {
+		// a bundle directory changes with its manifest
+		File fingerprint = file.isDirectory() ? new File(file, JarFile.MANIFEST_NAME) : file;
+		long size = fingerprint.length();
+		long lastModified = fingerprint.lastModified();
+		CachedBundle cached = fBundleCache.get(file);
+		if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+			return cached.bundle();
+		}
+		TargetBundle bundle;
+		try {
+			bundle = new TargetBundle(file);
+		} catch (CoreException e) {
+			// Ignore non-bundle files
+			bundle = null;
+		}
+		fBundleCache.put(file, new CachedBundle(size, lastModified, bundle));
+		return bundle;
+	}
+
+	/**
+	 * Starts watching the directory of this container. Bundles that are added,
+	 * removed or changed afterwards update the bundles of this container if
+	 * it is resolved and are reported to the given listener, so the target
+	 * does not need to be resolved again. Watching stops when
+	 * {@link #stopWatching()} is called. The plug-in model manager watches
+	 * the directories of the workspace target if the VM property
+	 * {@code pde.watchTargetDirectories} is set.
+	 *
+	 * @param listener notified of the changed bundles in a background thread
+	 * @throws CoreException if the directory cannot be watched
+	 */
+	public synchronized void startWatching(Consumer<DirectoryDelta> listener) throws CoreException {
+		stopWatching();
+		File site = getSite(getDirectory());
+		WatchService watchService;
+		try {
+			watchService = site.toPath().getFileSystem().newWatchService();
+			site.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_2, site.toString()), e));
+		}
+		fWatchService = watchService;
+		Thread thread = new Thread(() -> watch(watchService, site, listener), "Target directory watcher " + site); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops watching the directory of this container
+	 *
+	 * @see #startWatching(Consumer)
+	 */
+	public synchronized void stopWatching() {
+		if (fWatchService != null) {
+			try {
+				fWatchService.close();
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+			fWatchService = null;
+		}
+	}
+
+	private void watch(WatchService watchService, File site, Consumer<DirectoryDelta> listener) {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				// wait until the directory settles, copying a jar fires several
+				// events
+				do {
+					key.pollEvents();
+					key.reset();
+					key = watchService.poll(WATCH_SETTLE_TIME, TimeUnit.MILLISECONDS);
+				} while (key != null);
+				DirectoryDelta delta = rescan(site);
+				if (!delta.isEmpty()) {
+					listener.accept(delta);
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// stopped watching
+		}
+	}
+
+	/**
+	 * Scans the directory again and updates the bundles of this container if
+	 * it is resolved
+	 */
+	private DirectoryDelta rescan(File site) {
+		synchronized (fBundleCache) {
+			Map<File, TargetBundle> before = currentBundles();
+			TargetBundle[] bundles = scanBundles(site, null);
+			Map<File, TargetBundle> after = currentBundles();
+			List<TargetBundle> added = new ArrayList<>();
+			List<TargetBundle> removed = new ArrayList<>();
+			after.forEach((file, bundle) -> {
+				if (before.get(file) != bundle) {
+					added.add(bundle);
+				}
+			});
+			before.forEach((file, bundle) -> {
+				if (after.get(file) != bundle) {
+					removed.add(bundle);
+				}
+			});
+			if (isResolved() && (!added.isEmpty() || !removed.isEmpty())) {
+				fBundles = bundles;
+			}
+			return new DirectoryDelta(this, added, removed);
+		}
+	}
+
+	private Map<File, TargetBundle> currentBundles() {
+		Map<File, TargetBundle> bundles = new HashMap<>();
+		fBundleCache.forEach((file, cached) -> {
+			if (cached.bundle() != null) {
+				bundles.put(file, cached.bundle());
+			}
+		});
+		return bundles;
+	}
+
+	/**
+	 * The bundles added to and removed from a watched directory. A changed
+	 * bundle is reported as the removal of its previous bundle and the
+	 * addition of the new one.
+	 *
+	 * @param container the container of the directory
+	 * @param added the new bundles
+	 * @param removed the bundles that are no longer in the directory
+	 */
+	public record DirectoryDelta(DirectoryBundleContainer container, List<TargetBundle> added,
+			List<TargetBundle> removed) {
+
+		/**
+		 * @return whether no bundle was added or removed
+		 */
+		public boolean isEmpty() {
+			return added.isEmpty() && removed.isEmpty();
+		}
 	}
 
 	@Override
@@ -169,6 +367,10 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		return root;
 	}
 
+	/**
+	 * Marks this container unresolved. The next resolution only reads the
+	 * bundles that changed since the last one.
+	 */
 	public void reload() {
 		clearResolutionStatus();
 	}
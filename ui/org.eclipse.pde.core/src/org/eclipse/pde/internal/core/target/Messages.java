@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ public class Messages extends NLS {
 	public static String AbstractBundleContainer_3;
 	public static String DirectoryBundleContainer_0;
 	public static String DirectoryBundleContainer_1;
+	public static String DirectoryBundleContainer_2;
 	public static String FeatureBundleContainer_0;
 	public static String FeatureBundleContainer_1;
 	public static String FeatureBundleContainer_2;
@@ -57,6 +58,8 @@ public class Messages extends NLS {
 	public static String TargetDefinition_3;
 	public static String TargetDefinition_4;
 	public static String TargetDefinition_5;
+	public static String TargetDefinition_ResolutionTimes;
+	public static String TargetDefinition_ResolutionTime;
 	public static String TargetDefinition_RequiredFeatureCouldNotBeFound;
 	public static String TargetDefinitionPersistenceHelper_0;
 	public static String TargetDefinitionPersistenceHelper_1;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,21 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +53,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -118,7 +129,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static final Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -371,63 +382,163 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 		fResolutionStatus = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		subMonitor.subTask(Messages.TargetDefinition_4);
+		AtomicBoolean canceled = new AtomicBoolean();
+		ExecutorService executor = null;
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			// usual target definition locations are resolved independently of
+			// each other, locations backed by a p2 profile have to be
+			// synchronized in a separate batch before they can be resolved
+			List<Callable<LocationResolution>> tasks = new ArrayList<>();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
-					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					tasks.add(() -> resolveLocation(location, canceled));
 				} else {
-					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
-			if (!synchronizers.isEmpty()) {
-				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
-						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
-					subMonitor.checkCanceled();
-					try {
-						entry.getKey().synchronize(this, subMonitor.split(100));
-						entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
-								.filter(s -> !s.isOK()).forEach(status::add);
-					} catch (CoreException e) {
-						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
-					}
-				}
-				for (ITargetLocation location : delayedLocations) {
-					subMonitor.checkCanceled();
-					IStatus s = location.resolve(this, subMonitor.split(1));
-					if (!s.isOK()) {
-						status.add(s);
-					}
-				}
+			for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
+				tasks.add(() -> synchronizeLocations(entry.getKey(), entry.getValue(), canceled));
+			}
+			subMonitor.setWorkRemaining(tasks.size() * 100);
+			executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_RESOLUTION_THREADS), runnable -> {
+				Thread thread = new Thread(runnable, "Target location resolution"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			List<Future<LocationResolution>> futures = new ArrayList<>(tasks.size());
+			for (Callable<LocationResolution> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			// collect the results in the order of the locations to keep the
+			// status deterministic
+			List<IStatus> times = new ArrayList<>(tasks.size());
+			for (Future<LocationResolution> future : futures) {
+				LocationResolution resolution = awaitResolution(future, subMonitor, canceled);
+				resolution.problems().forEach(status::add);
+				times.add(new Status(IStatus.OK, PDECore.PLUGIN_ID, NLS.bind(Messages.TargetDefinition_ResolutionTime,
+						resolution.name(), Long.toString(resolution.millis()))));
+				subMonitor.split(100);
+			}
+			if (PDECore.DEBUG_MODEL) {
+				times.stream().map(IStatus::getMessage).forEach(System.out::println);
 			}
 			if (status.isOK()) {
-				return fResolutionStatus = Status.OK_STATUS;
+				// report the cost of each location in the otherwise empty status
+				return fResolutionStatus = new MultiStatus(PDECore.PLUGIN_ID, 0, times.toArray(IStatus[]::new),
+						Messages.TargetDefinition_ResolutionTimes, null);
 			}
 			return fResolutionStatus = status;
 		} catch (OperationCanceledException e) {
+			canceled.set(true);
 			return Status.CANCEL_STATUS;
 		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
 			// keep a list of resolved targets with key as handle
 			TargetPlatformHelper.addTargetDefinitionMap(this);
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Upper bound of the locations resolved at the same time
+	 */
+	private static final int MAX_RESOLUTION_THREADS = Math.max(1,
+			Integer.getInteger("pde.target.resolutionThreads", Runtime.getRuntime().availableProcessors())); //$NON-NLS-1$
+
+	/**
+	 * The problems found resolving one or more target locations and the time
+	 * it took
+	 */
+	private record LocationResolution(String name, List<IStatus> problems, long millis) {
+	}
+
+	private LocationResolution resolveLocation(ITargetLocation location, AtomicBoolean canceled) {
+		long start = System.currentTimeMillis();
+		IStatus s = location.resolve(this, new ResolutionMonitor(canceled));
+		List<IStatus> problems = s.isOK() ? List.of() : List.of(s);
+		return new LocationResolution(location.toString(), problems, System.currentTimeMillis() - start);
+	}
+
+	private LocationResolution synchronizeLocations(P2TargetUtils synchronizer, List<ITargetLocation> locations,
+			AtomicBoolean canceled) {
+		long start = System.currentTimeMillis();
+		List<IStatus> problems = new ArrayList<>();
+		try {
+			synchronizer.synchronize(this, new ResolutionMonitor(canceled));
+			locations.stream().map(loc -> loc.getStatus()).filter(Objects::nonNull).filter(s -> !s.isOK())
+					.forEach(problems::add);
+		} catch (CoreException e) {
+			PDECore.log(e.getStatus());
+			problems.add(e.getStatus());
+		}
+		for (ITargetLocation location : locations) {
+			IStatus s = location.resolve(this, new ResolutionMonitor(canceled));
+			if (!s.isOK()) {
+				problems.add(s);
+			}
+		}
+		String name = locations.stream().map(Object::toString).collect(Collectors.joining(", ")); //$NON-NLS-1$
+		return new LocationResolution(name, problems, System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Waits for the given resolution, cancelling all resolutions if the
+	 * monitor is canceled meanwhile.
+	 */
+	private static LocationResolution awaitResolution(Future<LocationResolution> future, SubMonitor monitor,
+			AtomicBoolean canceled) {
+		while (true) {
+			if (monitor.isCanceled()) {
+				canceled.set(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				canceled.set(true);
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Progress monitor of a location resolved in a background thread, which
+	 * only reports the cancellation of the whole resolution as the progress
+	 * monitor of the resolution must not be used concurrently
+	 */
+	private static final class ResolutionMonitor extends NullProgressMonitor {
+		private final AtomicBoolean fCanceled;
+
+		ResolutionMonitor(AtomicBoolean canceled) {
+			fCanceled = canceled;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled.get() || super.isCanceled();
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
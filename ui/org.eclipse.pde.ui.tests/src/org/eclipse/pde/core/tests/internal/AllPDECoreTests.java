@@ -7,6 +7,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ //
 	DependencyManagerTest.class, //
+	PDEExtensionRegistryTest.class, //
+	PDEStateTest.class, //
+	PluginModelManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
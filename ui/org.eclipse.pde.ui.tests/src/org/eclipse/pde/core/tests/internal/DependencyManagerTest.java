@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -33,8 +33,11 @@ import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
 import static org.osgi.framework.Constants.REQUIRE_CAPABILITY;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Dictionary;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,8 +47,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.build.Utils;
 import org.eclipse.pde.internal.core.ClasspathComputer;
@@ -59,7 +65,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestRule;
+import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
+import org.osgi.framework.VersionRange;
 
 public class DependencyManagerTest {
 
@@ -340,8 +348,74 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_cachedUntilWiringChanges() throws Exception {
+		setTargetPlatform( //
+				bundle("bundle.b", "1.0.0"), //
+				bundle("bundle.c", "1.0.0"));
+
+		IProject projectA = createRequiringProject("project.a", "project.b");
+		IProject projectB = createRequiringProject("project.b", "bundle.b");
+		BundleDescription bundleA = PluginRegistry.findModel(projectA).getBundleDescription();
+		BundleDescription projectBundleB = PluginRegistry.findModel(projectB).getBundleDescription();
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		Set<BundleDescription> closure = findRequirementsClosure(Set.of(bundleA));
+		assertThat(closure).isEqualTo(Set.of(bundleA, projectBundleB, bundleB));
+		// callers may modify the returned closure
+		closure.remove(bundleB);
+		assertThat(findRequirementsClosure(Set.of(bundleA))).contains(bundleB).hasSize(3);
+
+		createRequiringProject("project.b", "bundle.c");
+		bundleA = PluginRegistry.findModel(projectA).getBundleDescription();
+		projectBundleB = PluginRegistry.findModel(projectB).getBundleDescription();
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		assertThat(findRequirementsClosure(Set.of(bundleA))).isEqualTo(Set.of(bundleA, projectBundleB, bundleC));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_doesNotRetainState() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		BundleDescription bundleA = addBundle(state, 1, "bundle.a", "bundle.b");
+		BundleDescription bundleB = addBundle(state, 2, "bundle.b", null);
+		state.resolve(false);
+
+		assertThat(findRequirementsClosure(List.of(bundleA))).isEqualTo(Set.of(bundleA, bundleB));
+		assertThat(findRequirementsClosure(List.of(bundleA))).isEqualTo(Set.of(bundleA, bundleB));
+
+		WeakReference<State> stateReference = new WeakReference<>(state);
+		state = null;
+		bundleA = null;
+		bundleB = null;
+		for (int i = 0; i < 20 && stateReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertThat(stateReference.get()).isNull();
+	}
+
 	// --- utility methods ---
 
+	private static BundleDescription addBundle(State state, long id, String name, String requiredBundle)
+			throws BundleException {
+		Dictionary<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, name);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		if (requiredBundle != null) {
+			manifest.put(REQUIRE_BUNDLE, requiredBundle);
+		}
+		BundleDescription bundle = StateObjectFactory.defaultFactory.createBundleDescription(state, manifest, name,
+				id);
+		state.addBundle(bundle);
+		return bundle;
+	}
+
+	private static IProject createRequiringProject(String name, String requiredBundle) throws CoreException {
+		return ProjectUtils.createPluginProject(name, name, "1.0.0", (d, s) -> d.setRequiredBundles(
+				new IRequiredBundleDescription[] { s.newRequiredBundle(requiredBundle, (VersionRange) null, false, false) }));
+	}
+
 	@SafeVarargs
 	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
 			throws Exception {
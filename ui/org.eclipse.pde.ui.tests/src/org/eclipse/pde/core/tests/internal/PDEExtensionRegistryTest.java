@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class PDEExtensionRegistryTest {
+
+	private static final String POINT_ID = "registry.point.p";
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testContributionChangedWhileIndexesAreEmpty() throws Exception {
+		createPlugin("registry.point", "<extension-point id=\"p\" name=\"P\"/>");
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		// start with a new registry and empty indexes
+		registry.targetReloaded();
+		assertThat(registry.hasExtensionPoint(POINT_ID)).isTrue();
+
+		IPluginModelBase first = createPlugin("registry.first", "<extension point=\"" + POINT_ID + "\"/>");
+		assertThat(registry.findExtensionPlugins(POINT_ID, false)).containsExactly(first);
+
+		IPluginModelBase second = createPlugin("registry.second", "<extension point=\"" + POINT_ID + "\"/>");
+		assertThat(registry.findExtensionPlugins(POINT_ID, false)).containsExactlyInAnyOrder(first, second);
+	}
+
+	private static IPluginModelBase createPlugin(String id, String contents) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0", (d, s) -> d.setSingleton(true));
+		String pluginXml = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   %s
+				</plugin>
+				""".formatted(contents);
+		project.getFile("plugin.xml").create(new ByteArrayInputStream(pluginXml.getBytes(StandardCharsets.UTF_8)),
+				true, null);
+		return PluginRegistry.findModel(project);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetManifestCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class PDEStateTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testBundlesAreAddedInTargetOrder() throws Exception {
+		List<URI> uris = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			String name = "pde.state.test.bundle" + (63 - i);
+			uris.add(createBundle(name).toUri());
+			expected.add(name);
+			if (i % 16 == 0) {
+				// not a bundle, skipped without affecting the other bundles
+				uris.add(folder.newFolder("notABundle" + i).toURI());
+			}
+		}
+
+		for (int run = 0; run < 2; run++) {
+			PDEState state = new PDEState(uris.toArray(URI[]::new), true, false, new NullProgressMonitor());
+			BundleDescription[] bundles = state.getState().getBundles();
+			Arrays.sort(bundles, Comparator.comparingLong(BundleDescription::getBundleId));
+			assertThat(bundles).extracting(BundleDescription::getSymbolicName).containsExactlyElementsOf(expected);
+			assertThat(state.getTargetModels()).hasSize(expected.size());
+		}
+	}
+
+	@Test
+	public void testAddAndRemoveTargetBundles() throws Exception {
+		URI a = createBundle("pde.state.test.a").toUri();
+		URI b = createBundle("pde.state.test.b").toUri();
+		PDEState state = new PDEState(new URI[] { a }, true, false, new NullProgressMonitor());
+		IPluginModelBase modelA = state.getTargetModels()[0];
+
+		IPluginModelBase[] added = state.addTargetBundles(new URI[] { b }, new NullProgressMonitor());
+		assertThat(added).extracting(m -> m.getPluginBase().getId()).containsExactly("pde.state.test.b");
+		assertThat(state.getTargetModels()).containsExactly(modelA, added[0]);
+		assertThat(state.getState().getBundles()).extracting(BundleDescription::getSymbolicName)
+				.containsExactlyInAnyOrder("pde.state.test.a", "pde.state.test.b");
+		assertThat(added[0].getBundleDescription().getBundleId())
+				.isGreaterThan(modelA.getBundleDescription().getBundleId());
+
+		state.removeTargetModels(List.of(modelA));
+		assertThat(state.getTargetModels()).containsExactly(added[0]);
+		assertThat(state.getState().getBundles()).extracting(BundleDescription::getSymbolicName)
+				.containsExactly("pde.state.test.b");
+	}
+
+	@Test
+	public void testManifestCache() throws Exception {
+		Path jar = createBundle("pde.state.test.cached");
+		Path cacheFile = folder.getRoot().toPath().resolve("manifests.cache");
+
+		TargetManifestCache cache = TargetManifestCache.load(cacheFile);
+		assertThat(cache.loadManifest(jar.toFile())).containsEntry(Constants.BUNDLE_VERSION, "1.0.0");
+		assertThat(cache.getHits()).isZero();
+		cache.save();
+		assertThat(cacheFile).exists();
+
+		cache = TargetManifestCache.load(cacheFile);
+		Map<String, String> headers = cache.loadManifest(jar.toFile());
+		assertThat(headers).containsEntry(Constants.BUNDLE_SYMBOLICNAME, "pde.state.test.cached")
+				.containsEntry(Constants.BUNDLE_VERSION, "1.0.0");
+		assertThat(cache.getHits()).isOne();
+		// header names are case insensitive on a cache hit as well
+		assertThat(headers.get("bundle-symbolicName")).isEqualTo("pde.state.test.cached");
+		// callers may modify the returned headers
+		headers.put(Constants.BUNDLE_VERSION, "3.0.0");
+		assertThat(cache.loadManifest(jar.toFile())).containsEntry(Constants.BUNDLE_VERSION, "1.0.0");
+
+		// a changed bundle is read again
+		createBundle("pde.state.test.cached", "2.0.0", jar);
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 2000));
+		cache = TargetManifestCache.load(cacheFile);
+		assertThat(cache.loadManifest(jar.toFile())).containsEntry(Constants.BUNDLE_VERSION, "2.0.0");
+		assertThat(cache.getHits()).isZero();
+	}
+
+	private Path createBundle(String name) throws IOException {
+		return createBundle(name, "1.0.0", folder.getRoot().toPath().resolve(name + "_1.0.0.jar"));
+	}
+
+	private Path createBundle(String name, String version, Path jar) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, name);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		try (OutputStream out = Files.newOutputStream(jar)) {
+			new JarOutputStream(out, manifest).finish();
+		}
+		return jar;
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginModelManagerTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	private Path tpJarDirectory;
+
+	@Before
+	public void setupBefore() throws Exception {
+		tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+	}
+
+	@Test
+	public void testTargetChangeUpdatesModels() throws Exception {
+		setTargetPlatform(bundle("bundle.a", "1.0.0"), bundle("bundle.b", "1.0.0"));
+		assertThat(PluginRegistry.getActiveModels()).extracting(m -> m.getPluginBase().getId())
+				.containsExactlyInAnyOrder("bundle.a", "bundle.b");
+
+		setTargetPlatform(bundle("bundle.a", "1.0.0"), bundle("bundle.c", "1.0.0", //
+				Map.entry(REQUIRE_BUNDLE, "bundle.a")));
+		assertThat(PluginRegistry.getActiveModels()).extracting(m -> m.getPluginBase().getId())
+				.containsExactlyInAnyOrder("bundle.a", "bundle.c");
+		assertThat(PluginRegistry.findModel("bundle.b")).isNull();
+		IPluginModelBase c = PluginRegistry.findModel("bundle.c");
+		assertThat(c).isNotNull();
+		assertThat(c.getBundleDescription().isResolved()).isTrue();
+		assertThat(c.getBundleDescription().getResolvedRequires()).extracting(d -> d.getSymbolicName())
+				.containsExactly("bundle.a");
+		assertThat(PluginRegistry.getAllModels()).containsExactlyInAnyOrder(PluginRegistry.getActiveModels());
+	}
+
+	@Test
+	public void testTargetChangeKeepsWorkspaceOverride() throws Exception {
+		setTargetPlatform(bundle("bundle.a", "1.0.0"));
+		ProjectUtils.createWorkspacePluginProjects(List.of(new NameVersionDescriptor("bundle.w", "1.0.0")));
+		IPluginModelBase workspaceModel = PluginRegistry.findModel("bundle.w");
+		assertThat(workspaceModel).isNotNull();
+		assertThat(workspaceModel.getUnderlyingResource()).isNotNull();
+
+		// adds a target counterpart of the workspace plug-in incrementally
+		setTargetPlatform(bundle("bundle.a", "1.0.0"), bundle("bundle.w", "1.0.0"));
+		assertThat(PluginRegistry.findEntry("bundle.w").getExternalModels()).hasSize(1);
+		assertThat(PluginRegistry.findModel("bundle.w")).isSameAs(workspaceModel);
+		State state = PluginModelManager.getInstance().getState().getState();
+		assertThat(state.getBundles("bundle.w")).containsExactly(workspaceModel.getBundleDescription());
+		assertThat(workspaceModel.getBundleDescription().isResolved()).isTrue();
+	}
+
+	@Test
+	public void testModelArraysAreCopies() throws Exception {
+		setTargetPlatform(bundle("bundle.a", "1.0.0"), bundle("bundle.b", "1.0.0"));
+		IPluginModelBase[] active = PluginRegistry.getActiveModels();
+		IPluginModelBase[] all = PluginRegistry.getAllModels();
+		assertThat(active).hasSize(2);
+		active[0] = null;
+		all[0] = null;
+		assertThat(PluginRegistry.getActiveModels()).hasSize(2).doesNotContainNull();
+		assertThat(PluginRegistry.getAllModels()).hasSize(2).doesNotContainNull();
+	}
+
+	@SafeVarargs
+	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
+			throws Exception {
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), tpJarDirectory);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2022, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2022, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -89,6 +89,27 @@ public class WorkspaceModelManagerTest {
 		assertExistingModel("plugin.a", "1.0.0", model);
 	}
 
+	@Test
+	public void testGetModels_workspaceStartUpWithManyExistingProjects() throws CoreException {
+		// simulate start-up with a workspace whose models are loaded in
+		// parallel
+		List<IProject> projects = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			projects.add(createModelProject("plugin.a" + i, "1." + i + ".0"));
+		}
+		TestWorkspaceModelManager mm = createWorkspaceModelManager(false);
+		IPluginModelBase[] models = mm.getPluginModels();
+		assertEquals(projects.size(), models.length);
+		// models are registered in the order of the workspace projects
+		IProject[] workspaceProjects = ResourcesPlugin.getWorkspace().getRoot().getProjects();
+		for (int i = 0; i < models.length; i++) {
+			IProject project = workspaceProjects[i];
+			assertSame(project, models[i].getUnderlyingResource().getProject());
+			int index = projects.indexOf(project);
+			assertExistingModel("plugin.a" + index, "1." + index + ".0", mm.getModel(project));
+		}
+	}
+
 	@Test
 	public void testChangeEvents_singleModelCreated() throws CoreException {
 		TestWorkspaceModelManager mm = createWorkspaceModelManager();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Red Hat Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,16 @@
  *******************************************************************************/
 package org.eclipse.pde.core.tests.internal.classpath;
 
+import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
 import static org.junit.Assert.fail;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -30,6 +35,7 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IAccessRule;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
@@ -37,6 +43,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
 import org.eclipse.pde.internal.core.MinimalState;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
@@ -47,10 +54,12 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.VersionRange;
 
 public class ClasspathResolutionTest {
 
@@ -61,6 +70,8 @@ public class ClasspathResolutionTest {
 	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
 	@Rule
 	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
 
 	private static String jakartaAnnotationProviderBSN;
 
@@ -147,8 +158,45 @@ public class ClasspathResolutionTest {
 		}
 	}
 
+	@Test
+	public void testAccessRulesFollowTargetChanges() throws Exception {
+		Path tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(bundle("bundle.dep", "1.0.0", //
+				entry(EXPORT_PACKAGE, "dep.api,dep.internal;x-internal:=true"))), List.of(), tpJarDirectory);
+		IProject consumerA = createRequiringProject("consumer.a", "bundle.dep");
+		IProject consumerB = createRequiringProject("consumer.b", "bundle.dep");
+
+		// both containers are computed from the same cached state queries
+		assertThat(getAccessRules(consumerA, "bundle.dep")).containsExactlyInAnyOrder("dep/api/*:accessible",
+				"dep/internal/*:discouraged", "**/*:non-accessible");
+		assertThat(getAccessRules(consumerB, "bundle.dep"))
+				.containsExactlyInAnyOrderElementsOf(getAccessRules(consumerA, "bundle.dep"));
+
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(bundle("bundle.dep", "1.0.0", //
+				entry(EXPORT_PACKAGE, "dep.api,dep.spi"))), List.of(), tpJarDirectory);
+		assertThat(getAccessRules(consumerA, "bundle.dep")).containsExactlyInAnyOrder("dep/api/*:accessible",
+				"dep/spi/*:accessible", "**/*:non-accessible");
+	}
+
 	// --- utilitiy methods ---
 
+	private IProject createRequiringProject(String name, String requiredBundle) throws CoreException {
+		return ProjectUtils.createPluginProject(name, name, "1.0.0", (d, s) -> d.setRequiredBundles(
+				new IRequiredBundleDescription[] { s.newRequiredBundle(requiredBundle, (VersionRange) null, false, false) }));
+	}
+
+	private List<String> getAccessRules(IProject project, String bundleName) {
+		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
+		IClasspathContainer container = new RequiredPluginsClasspathContainer(model, project);
+		IClasspathEntry entry = Arrays.stream(container.getClasspathEntries())
+				.filter(e -> e.getPath().lastSegment().startsWith(bundleName)).findFirst().orElseThrow();
+		return Arrays.stream(entry.getAccessRules()).map(r -> r.getPattern() + ":" + switch (r.getKind()) {
+		case IAccessRule.K_ACCESSIBLE -> "accessible";
+		case IAccessRule.K_DISCOURAGED -> "discouraged";
+		default -> "non-accessible";
+		}).toList();
+	}
+
 	private List<String> getRequiredPluginContainerEntries(IProject project) throws CoreException {
 		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Test;
+
+public class ManifestConsistencyCheckerTest {
+
+	private static final String PARALLEL_VALIDATION = "pde.parallelValidation";
+
+	private IProject project;
+
+	@After
+	public void tearDown() throws Exception {
+		System.clearProperty(PARALLEL_VALIDATION);
+		if (project != null && project.exists()) {
+			project.delete(true, null);
+		}
+	}
+
+	@Test
+	public void testParallelValidationReportsSameMarkers() throws Exception {
+		String name = getClass().getName();
+		project = ProjectUtils.createPluginProject(name,
+				JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-1.8")).getProject();
+		setContents(project.getFile("META-INF/MANIFEST.MF"), """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-Name: Test
+				Bundle-SymbolicName: %s;singleton:=true
+				Bundle-Version: 1.0.0
+				Require-Bundle: does.not.exist
+				Import-Package: does.not.exist
+				""".formatted(name));
+		setContents(project.getFile("plugin.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension point="does.not.exist.point">
+				   </extension>
+				   <unknown/>
+				</plugin>
+				""");
+		setContents(project.getFile("build.properties"), """
+				bin.includes = META-INF/,\\
+				               missing.txt
+				""");
+
+		List<String> sequential = buildAndCollectMarkers();
+		assertThat(sequential).isNotEmpty();
+
+		System.setProperty(PARALLEL_VALIDATION, Boolean.TRUE.toString());
+		project.deleteMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_INFINITE);
+		List<String> parallel = buildAndCollectMarkers();
+
+		assertThat(parallel).containsExactlyElementsOf(sequential);
+	}
+
+	private List<String> buildAndCollectMarkers() throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return Arrays.stream(project.findMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_INFINITE))
+				.map(m -> m.getResource().getProjectRelativePath() + ":" + m.getAttribute(IMarker.LINE_NUMBER, -1)
+						+ ":" + m.getAttribute(IMarker.SEVERITY, -1) + ":" + m.getAttribute(IMarker.MESSAGE, ""))
+				.sorted().toList();
+	}
+
+	private static void setContents(IFile file, String contents) throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.internal.core.builders.DefaultSAXParser;
+import org.eclipse.pde.internal.core.builders.XMLErrorReporter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+public class XMLErrorReporterTest {
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <!-- <extension point="commented"> -->
+			   <extension
+			         point="org.eclipse.ui.views"><view id="a"
+			            name = 'A'/>
+			   </extension>
+			   <extension point="org.eclipse.ui.views">
+			      <description></description>
+			      <description/>
+			      <description>%text &amp; more</description>
+			   </extension>
+			</plugin>
+			""";
+
+	private IProject project;
+
+	@Before
+	public void setup() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName());
+		project.create(null);
+		project.open(null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testElementAndAttributeLines() throws Exception {
+		TestReporter reporter = parse(PLUGIN_XML);
+		Element root = reporter.getDocumentRoot();
+		assertThat(reporter.getLine(root)).isEqualTo(3);
+
+		NodeList extensions = root.getElementsByTagName("extension");
+		assertThat(extensions.getLength()).isEqualTo(2);
+		Element first = (Element) extensions.item(0);
+		assertThat(reporter.getLine(first)).isEqualTo(5);
+		assertThat(reporter.getLine(first, "point")).isEqualTo(6);
+		assertThat(reporter.getLine((Element) extensions.item(1))).isEqualTo(9);
+
+		Element view = (Element) root.getElementsByTagName("view").item(0);
+		assertThat(reporter.getLine(view)).isEqualTo(6);
+		assertThat(reporter.getLine(view, "id")).isEqualTo(6);
+		assertThat(reporter.getLine(view, "name")).isEqualTo(7);
+		assertThat(reporter.getLine(view, "missing")).isEqualTo(6);
+	}
+
+	@Test
+	public void testTextContent() throws Exception {
+		TestReporter reporter = parse(PLUGIN_XML);
+		NodeList descriptions = reporter.getDocumentRoot().getElementsByTagName("description");
+		assertThat(reporter.getTextContent((Element) descriptions.item(0))).isEmpty();
+		assertThat(reporter.getTextContent((Element) descriptions.item(1))).isNull();
+		// text is kept in a single node
+		Element text = (Element) descriptions.item(2);
+		assertThat(text.getChildNodes().getLength()).isEqualTo(1);
+		assertThat(text.getFirstChild().getNodeValue()).isEqualTo("%text & more");
+	}
+
+	private TestReporter parse(String content) throws Exception {
+		IFile file = project.getFile("plugin.xml");
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+		TestReporter reporter = new TestReporter(file);
+		DefaultSAXParser.parse(file, reporter);
+		return reporter;
+	}
+
+	private static class TestReporter extends XMLErrorReporter {
+
+		TestReporter(IFile file) {
+			super(file);
+		}
+
+		@Override
+		protected void validate(IProgressMonitor monitor) {
+		}
+
+		@Override
+		protected int getLine(Element element) {
+			return super.getLine(element);
+		}
+
+		@Override
+		protected int getLine(Element element, String attName) {
+			return super.getLine(element, attName);
+		}
+
+		@Override
+		protected String getTextContent(Element element) {
+			return super.getTextContent(element);
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.schema.IncludedSchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaRegistryTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private SchemaRegistry registry;
+	private ISchemaDescriptor parent;
+
+	@Before
+	public void setUp() throws Exception {
+		registry = new SchemaRegistry();
+		parent = new IncludedSchemaDescriptor(new File(folder.getRoot(), "parent.exsd").toURI().toURL());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsedByWeight() throws Exception {
+		// each schema weighs 1 + 100 * (1 + 9) = 1001
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i <= SchemaRegistry.MAX_WEIGHT / 1001; i++) {
+			names.add(writeSchema("large" + i, 100, 9, null));
+		}
+
+		ISchema first = registry.getIncludedSchema(parent, names.get(0));
+		assertThat(first).isNotNull();
+		assertThat(registry.getWeight()).isEqualTo(1001);
+		for (String name : names.subList(1, names.size() - 1)) {
+			registry.getIncludedSchema(parent, name);
+		}
+		// the first schema is the most recently used one now
+		assertThat(registry.getIncludedSchema(parent, names.get(0))).isSameAs(first);
+		ISchema second = registry.getIncludedSchema(parent, names.get(1));
+		assertThat(registry.getWeight()).isEqualTo(names.size() * 1001 - 1001);
+
+		registry.getIncludedSchema(parent, names.get(names.size() - 1));
+		assertThat(registry.getWeight()).isLessThanOrEqualTo(SchemaRegistry.MAX_WEIGHT);
+
+		int misses = registry.getMisses();
+		assertThat(registry.getIncludedSchema(parent, names.get(1))).isSameAs(second);
+		assertThat(registry.getIncludedSchema(parent, names.get(0))).isSameAs(first);
+		assertThat(registry.getMisses()).isEqualTo(misses);
+		// the least recently used schema has been evicted
+		assertThat(registry.getIncludedSchema(parent, names.get(2))).isNotNull();
+		assertThat(registry.getMisses()).isEqualTo(misses + 1);
+		assertThat(registry.getWeight()).isLessThanOrEqualTo(SchemaRegistry.MAX_WEIGHT);
+	}
+
+	@Test
+	public void testReloadsModifiedSchema() throws Exception {
+		String name = writeSchema("modified", 1, 1, null);
+		ISchema schema = registry.getIncludedSchema(parent, name);
+		assertThat(schema.getElements()).hasSize(1);
+		assertThat(registry.getIncludedSchema(parent, name)).isSameAs(schema);
+		assertThat(registry.getHits()).isEqualTo(1);
+
+		writeSchema("modified", 2, 1, null);
+		File file = new File(folder.getRoot(), name);
+		assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+
+		ISchema reloaded = registry.getIncludedSchema(parent, name);
+		assertThat(reloaded).isNotSameAs(schema);
+		assertThat(reloaded.getElements()).hasSize(2);
+		assertThat(registry.getMisses()).isEqualTo(2);
+		assertThat(registry.getWeight()).isEqualTo(1 + 2 * 2);
+	}
+
+	@Test
+	public void testSharesIncludedSchemas() throws Exception {
+		String shared = writeSchema("shared", 1, 1, null);
+		String a = writeSchema("a", 1, 1, shared);
+		String b = writeSchema("b", 1, 1, shared);
+
+		ISchema schemaA = registry.getIncludedSchema(parent, a);
+		ISchema schemaB = registry.getIncludedSchema(parent, b);
+		assertThat(schemaA).isNotSameAs(schemaB);
+		ISchemaInclude[] includesA = schemaA.getIncludes();
+		ISchemaInclude[] includesB = schemaB.getIncludes();
+		assertThat(includesA).hasSize(1);
+		assertThat(includesB).hasSize(1);
+
+		// includes of abbreviated schemas are loaded through the shared registry
+		SchemaRegistry sharedRegistry = PDECore.getDefault().getSchemaRegistry();
+		int misses = sharedRegistry.getMisses();
+		ISchema includedA = includesA[0].getIncludedSchema();
+		ISchema includedB = includesB[0].getIncludedSchema();
+		assertThat(includedA).isNotNull().isSameAs(includedB);
+		assertThat(sharedRegistry.getMisses()).isEqualTo(misses + 1);
+	}
+
+	/**
+	 * Writes a schema with the given number of elements, each with the given
+	 * number of attributes, optionally including another schema.
+	 *
+	 * @return the file name of the schema
+	 */
+	private String writeSchema(String id, int elements, int attributes, String include) throws IOException {
+		StringBuilder contents = new StringBuilder();
+		contents.append("<?xml version='1.0' encoding='UTF-8'?>\n");
+		contents.append("<schema targetNamespace=\"test\" xmlns=\"http://www.w3.org/2001/XMLSchema\">\n");
+		contents.append("<annotation><appInfo><meta.schema plugin=\"test\" id=\"").append(id).append("\" name=\"")
+				.append(id).append("\"/></appInfo></annotation>\n");
+		if (include != null) {
+			contents.append("<include schemaLocation=\"").append(include).append("\"/>\n");
+		}
+		for (int i = 0; i < elements; i++) {
+			contents.append("<element name=\"").append(id).append(i).append("\"><complexType>\n");
+			for (int j = 0; j < attributes; j++) {
+				contents.append("<attribute name=\"attribute").append(j).append("\" type=\"string\"/>\n");
+			}
+			contents.append("</complexType></element>\n");
+		}
+		contents.append("</schema>\n");
+		String name = id + ".exsd";
+		Files.writeString(Path.of(folder.getRoot().getPath(), name), contents);
+		return name;
+	}
+
+}
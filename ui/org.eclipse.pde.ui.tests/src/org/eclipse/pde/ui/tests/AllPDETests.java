@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@ package org.eclipse.pde.ui.tests;
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.ManifestConsistencyCheckerTest;
+import org.eclipse.pde.core.tests.internal.core.builders.XMLErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.schema.SchemaRegistryTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -65,6 +68,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
 	BundleErrorReporterTest.class, //
+	XMLErrorReporterTest.class, //
+	ManifestConsistencyCheckerTest.class, //
+	SchemaRegistryTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 })
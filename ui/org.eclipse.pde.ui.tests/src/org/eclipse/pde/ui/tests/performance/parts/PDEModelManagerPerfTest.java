@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance.parts;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 public class PDEModelManagerPerfTest extends PerformanceTestCase {
@@ -33,4 +43,65 @@ public class PDEModelManagerPerfTest extends PerformanceTestCase {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Looks up the extensions and extension points of all models of the
+	 * running SDK like the manifest validation of a full build does
+	 */
+	public void testExtensionRegistryLookups() throws Exception {
+		tagAsSummary("Extension registry lookups", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		IPluginModelBase[] models = PluginRegistry.getActiveModels();
+		assertTrue("Target should contain models", models.length > 0);
+
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			lookupExtensions(registry, models);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			lookupExtensions(registry, models);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Looks up the schemas of all extension points of the running SDK from
+	 * several threads like a concurrent manifest validation does
+	 */
+	public void testSchemaRegistryLookups() throws Exception {
+		tagAsSummary("Schema registry lookups", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
+		List<String> points = Arrays.stream(PluginRegistry.getActiveModels())
+				.flatMap(model -> Arrays.stream(model.getPluginBase().getExtensionPoints()))
+				.map(IPluginExtensionPoint::getFullId).toList();
+		assertFalse("Target should contain extension points", points.isEmpty());
+
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			points.parallelStream().forEach(registry::getSchema);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			points.parallelStream().forEach(registry::getSchema);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void lookupExtensions(PDEExtensionRegistry registry, IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			for (IPluginExtension extension : registry.findExtensionsForPlugin(model)) {
+				registry.findExtensionPlugins(extension.getPoint(), true);
+			}
+			for (IPluginExtensionPoint point : registry.findExtensionPointsForPlugin(model)) {
+				registry.findExtensionPlugins(point.getFullId(), false);
+			}
+		}
+	}
 }
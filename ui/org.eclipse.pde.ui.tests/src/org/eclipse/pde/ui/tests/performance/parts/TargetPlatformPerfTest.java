@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance.parts;
 
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
@@ -34,6 +36,8 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetManifestCache;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
 import org.eclipse.pde.ui.tests.util.TestBundleCreator;
@@ -94,6 +98,52 @@ public class TargetPlatformPerfTest extends PerformanceTestCase {
 
 	}
 
+	/**
+	 * Creates the target state of the example target with the target manifest
+	 * cache, only the first warm-up iteration reads the manifests
+	 */
+	public void testCreateTargetStateWithManifestCache() throws Exception {
+		createTargetState(true);
+	}
+
+	/**
+	 * Creates the target state of the example target reading all manifests
+	 */
+	public void testCreateTargetStateWithoutManifestCache() throws Exception {
+		createTargetState(false);
+	}
+
+	private void createTargetState(boolean useCache) throws Exception {
+		Path testBundles = extractTargetPerfTestPlugins();
+		URI[] uris;
+		try (Stream<Path> bundles = Files.find(testBundles, 2, (path, attributes) -> path.toString().endsWith(".jar"))) {
+			uris = bundles.sorted().map(Path::toUri).toArray(URI[]::new);
+		}
+		Assert.assertEquals(SEARCH_TEST_EXTERNAL_COUNT, uris.length);
+		String previous = System.setProperty(TargetManifestCache.ENABLED_PROPERTY, Boolean.toString(useCache));
+		try {
+			// Warm-up Iterations
+			for (int i = 0; i < 3; i++) {
+				new PDEState(uris, true, false, new NullProgressMonitor());
+			}
+			// Test Iterations
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				PDEState state = new PDEState(uris, true, false, new NullProgressMonitor());
+				stopMeasuring();
+				Assert.assertEquals(SEARCH_TEST_EXTERNAL_COUNT, state.getTargetModels().length);
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			if (previous == null) {
+				System.clearProperty(TargetManifestCache.ENABLED_PROPERTY);
+			} else {
+				System.setProperty(TargetManifestCache.ENABLED_PROPERTY, previous);
+			}
+		}
+	}
+
 	/**
 	 * Searches the model registry for various plug-ins to see how efficient model retrieval is
 	 */
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.target.DirectoryBundleContainer;
+import org.eclipse.pde.internal.core.target.DirectoryBundleContainer.DirectoryDelta;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class DirectoryBundleContainerTests extends AbstractTargetTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReloadOnlyReadsChangedBundles() throws Exception {
+		Path a = createBundle("a", "1.0.0");
+		createBundle("b", "1.0.0");
+		Files.writeString(folder.getRoot().toPath().resolve("readme.txt"), "not a bundle");
+		DirectoryBundleContainer container = new DirectoryBundleContainer(folder.getRoot().toString());
+		ITargetDefinition definition = getNewTarget();
+
+		container.resolve(definition, null);
+		TargetBundle[] bundles = container.getBundles();
+		assertThat(bundles).extracting(b -> b.getBundleInfo().getSymbolicName()).containsExactlyInAnyOrder("a", "b");
+
+		container.reload();
+		container.resolve(definition, null);
+		assertThat(container.getBundles()).containsExactlyInAnyOrder(bundles);
+
+		createBundle("a", "2.0.0");
+		Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 2000));
+		createBundle("c", "1.0.0");
+		container.reload();
+		container.resolve(definition, null);
+		assertThat(container.getBundles()).hasSize(3).contains(bundleNamed(bundles, "b"))
+				.extracting(b -> b.getBundleInfo().getSymbolicName() + "_" + b.getBundleInfo().getVersion())
+				.containsExactlyInAnyOrder("a_2.0.0", "b_1.0.0", "c_1.0.0");
+	}
+
+	@Test
+	public void testWatchReportsDeltas() throws Exception {
+		Path a = createBundle("a", "1.0.0");
+		DirectoryBundleContainer container = new DirectoryBundleContainer(folder.getRoot().toString());
+		container.resolve(getNewTarget(), null);
+		TargetBundle previous = container.getBundles()[0];
+
+		BlockingQueue<DirectoryDelta> deltas = new LinkedBlockingQueue<>();
+		container.startWatching(deltas::add);
+		try {
+			createBundle("b", "1.0.0");
+			DirectoryDelta delta = deltas.poll(30, TimeUnit.SECONDS);
+			assertThat(delta).isNotNull();
+			assertThat(delta.removed()).isEmpty();
+			assertThat(delta.added()).extracting(b -> b.getBundleInfo().getSymbolicName()).containsExactly("b");
+			assertThat(container.getBundles()).hasSize(2).contains(previous);
+
+			Files.delete(a);
+			delta = deltas.poll(30, TimeUnit.SECONDS);
+			assertThat(delta).isNotNull();
+			assertThat(delta.added()).isEmpty();
+			assertThat(delta.removed()).containsExactly(previous);
+			assertThat(container.getBundles()).extracting(b -> b.getBundleInfo().getSymbolicName())
+					.containsExactly("b");
+		} finally {
+			container.stopWatching();
+		}
+	}
+
+	private static TargetBundle bundleNamed(TargetBundle[] bundles, String name) {
+		for (TargetBundle bundle : bundles) {
+			if (bundle.getBundleInfo().getSymbolicName().equals(name)) {
+				return bundle;
+			}
+		}
+		throw new AssertionError("No bundle " + name);
+	}
+
+	private Path createBundle(String name, String version) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, name);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		Path jar = folder.getRoot().toPath().resolve(name + ".jar");
+		try (OutputStream out = Files.newOutputStream(jar)) {
+			new JarOutputStream(out, manifest).finish();
+		}
+		return jar;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -192,6 +193,43 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that independent locations resolved at the same time report their
+	 * problems in the order of the locations and the cost of each location
+	 */
+	@Test
+	public void testConcurrentResolution() throws Exception {
+		ITargetLocation abcde = getTargetService()
+				.newDirectoryLocation(extractAbcdePlugins().resolve("plugins").toString());
+		ITargetLocation multiVersions = getTargetService()
+				.newDirectoryLocation(extractMultiVersionPlugins().toString());
+		ITargetLocation broken1 = getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 1***");
+		ITargetLocation broken2 = getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 2***");
+
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { abcde, multiVersions });
+		IStatus status = definition.resolve(null);
+		assertTrue(status.isOK());
+		assertEquals("Expected the time of each location", 2, status.getChildren().length);
+		assertTrue(abcde.isResolved());
+		assertTrue(multiVersions.isResolved());
+		assertEquals(abcde.getBundles().length + multiVersions.getBundles().length,
+				definition.getAllBundles().length);
+
+		definition.setTargetLocations(new ITargetLocation[] { broken1, abcde, broken2 });
+		status = definition.resolve(null);
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of children", 2, children.length);
+		assertEquals(broken1.getStatus(), children[0]);
+		assertEquals(broken2.getStatus(), children[1]);
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { abcde, multiVersions });
+		assertEquals(IStatus.CANCEL, definition.resolve(monitor).getSeverity());
+	}
+
 	/**
 	 * Tests that a target definition is in synch with the target platform when
 	 * there are duplicates in the target definition (duplicates should be